@@ -1,9 +1,12 @@
 package com.db.api_biblioteca;
 
+import com.db.api_biblioteca.domain.repository.RepositorioComCache;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
+@EnableJpaRepositories(repositoryBaseClass = RepositorioComCache.class)
 public class ApiBibliotecaApplication {
 
 	public static void main(String[] args) {
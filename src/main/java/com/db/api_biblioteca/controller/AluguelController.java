@@ -3,12 +3,17 @@ package com.db.api_biblioteca.controller;
 import com.db.api_biblioteca.domain.dto.AluguelRequest;
 import com.db.api_biblioteca.domain.dto.AluguelResponse;
 import com.db.api_biblioteca.domain.dto.AluguelUpdateRequest;
+import com.db.api_biblioteca.domain.dto.LivroPaginaResponse;
 import com.db.api_biblioteca.domain.dto.LivroResponse;
 import com.db.api_biblioteca.domain.service.AluguelService;
+import com.db.api_biblioteca.domain.service.VersaoCatalogo;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,13 +22,28 @@ import java.util.List;
 public class AluguelController {
     @Autowired
     private final AluguelService aluguelService;
+    private final VersaoCatalogo versaoCatalogo;
 
-    public AluguelController(AluguelService aluguelService) {this.aluguelService = aluguelService;}
-
-    @GetMapping
-    public ResponseEntity<List<AluguelResponse>> listarAlugueis() {
+    public AluguelController(AluguelService aluguelService, VersaoCatalogo versaoCatalogo) {
+        this.aluguelService = aluguelService;
+        this.versaoCatalogo = versaoCatalogo;
+    }
 
-        return ResponseEntity.ok(aluguelService.listarAlugueis());
+    @GetMapping(produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE,
+            FormatoResposta.APPLICATION_SMILE_VALUE
+    })
+    public ResponseEntity<StreamingResponseBody> listarAlugueis(WebRequest request) {
+
+        FormatoResposta formato = FormatoResposta.negociar(request);
+
+        return RespostaCondicional.seModificado(
+                request,
+                versaoCatalogo.etag(VersaoCatalogo.Agregado.ALUGUEL),
+                formato,
+                () -> saida -> aluguelService.escreverAlugueis(saida, formato.fabrica())
+        );
     }
 
     @PostMapping
@@ -33,15 +53,31 @@ public class AluguelController {
     }
 
     @GetMapping("/disponiveis")
-    public ResponseEntity<List<LivroResponse>> listarLivrosDisponiveis() {
-
-        return ResponseEntity.ok(aluguelService.listarLivrosDisponiveis());
+    public ResponseEntity<LivroPaginaResponse> listarLivrosDisponiveis(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest request
+    ) {
+
+        return RespostaCondicional.seModificado(
+                request,
+                versaoCatalogo.etag(VersaoCatalogo.Agregado.LIVRO, VersaoCatalogo.Agregado.ALUGUEL),
+                () -> aluguelService.listarLivrosDisponiveis(after, limit)
+        );
     }
 
     @GetMapping("/alugados")
-    public ResponseEntity<List<LivroResponse>> listarLivrosAlugados() {
-
-        return ResponseEntity.ok(aluguelService.listarLivrosAlugados());
+    public ResponseEntity<LivroPaginaResponse> listarLivrosAlugados(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest request
+    ) {
+
+        return RespostaCondicional.seModificado(
+                request,
+                versaoCatalogo.etag(VersaoCatalogo.Agregado.LIVRO, VersaoCatalogo.Agregado.ALUGUEL),
+                () -> aluguelService.listarLivrosAlugados(after, limit)
+        );
     }
 
     @GetMapping("/locatario/{id}")
@@ -2,14 +2,17 @@ package com.db.api_biblioteca.controller;
 
 import com.db.api_biblioteca.domain.dto.AutorRequest;
 import com.db.api_biblioteca.domain.dto.AutorResponse;
+import com.db.api_biblioteca.domain.dto.AutorSugestaoResponse;
 import com.db.api_biblioteca.domain.dto.AutorUpdateRequest;
 import com.db.api_biblioteca.domain.entity.Autor;
 import com.db.api_biblioteca.domain.repository.AutorRepository;
 import com.db.api_biblioteca.domain.service.AutorService;
+import com.db.api_biblioteca.domain.service.VersaoCatalogo;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,14 +21,20 @@ import java.util.List;
 public class AutorController {
     @Autowired
     private final AutorService autorService;
+    private final VersaoCatalogo versaoCatalogo;
 
-    public AutorController(AutorService autorService) {
+    public AutorController(AutorService autorService, VersaoCatalogo versaoCatalogo) {
         this.autorService = autorService;
+        this.versaoCatalogo = versaoCatalogo;
     }
 
     @GetMapping
-    public ResponseEntity<List<AutorResponse>> listarAutores() {
-        return ResponseEntity.ok(autorService.listarAutores());
+    public ResponseEntity<List<AutorResponse>> listarAutores(WebRequest request) {
+        return RespostaCondicional.seModificado(
+                request,
+                versaoCatalogo.etag(VersaoCatalogo.Agregado.AUTOR, VersaoCatalogo.Agregado.LIVRO),
+                autorService::listarAutores
+        );
     }
 
     @GetMapping("/buscar")
@@ -35,6 +44,19 @@ public class AutorController {
         return ResponseEntity.ok(autorService.buscarAutorPorNomeCompleto(nome));
     }
 
+    @GetMapping("/sugestoes")
+    public ResponseEntity<List<AutorSugestaoResponse>> sugerirAutores(
+            @RequestParam String prefixo,
+            @RequestParam(defaultValue = "10") int limite,
+            WebRequest request
+    ) {
+        return RespostaCondicional.seModificado(
+                request,
+                versaoCatalogo.etag(VersaoCatalogo.Agregado.AUTOR),
+                () -> autorService.sugerirAutores(prefixo, limite)
+        );
+    }
+
     @PostMapping
     public ResponseEntity<AutorResponse> salvarAutor(
             @RequestBody @Valid AutorRequest autorRequest
@@ -51,7 +73,7 @@ public class AutorController {
     @PutMapping("/{id}")
     public ResponseEntity<AutorResponse> atualizarAutor(
             @PathVariable Long id,
-            @RequestBody AutorUpdateRequest autorRequest
+            @RequestBody @Valid AutorUpdateRequest autorRequest
     ) {
         return ResponseEntity.ok(autorService.atualizarAutor(id, autorRequest));
     }
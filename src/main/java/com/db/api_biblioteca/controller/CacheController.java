@@ -0,0 +1,26 @@
+package com.db.api_biblioteca.controller;
+
+import com.db.api_biblioteca.domain.dto.EstatisticasCacheResponse;
+import com.db.api_biblioteca.domain.service.EstatisticasCacheService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Profile("estatisticas")
+@RequestMapping("/cache")
+public class CacheController {
+
+    private final EstatisticasCacheService estatisticasCacheService;
+
+    public CacheController(EstatisticasCacheService estatisticasCacheService) {
+        this.estatisticasCacheService = estatisticasCacheService;
+    }
+
+    @GetMapping("/estatisticas")
+    public ResponseEntity<EstatisticasCacheResponse> buscarEstatisticas() {
+        return ResponseEntity.ok(estatisticasCacheService.buscarEstatisticas());
+    }
+}
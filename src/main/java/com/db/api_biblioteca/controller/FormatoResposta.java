@@ -0,0 +1,79 @@
+package com.db.api_biblioteca.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+enum FormatoResposta {
+
+    JSON(MediaType.APPLICATION_JSON, new JsonFactory()),
+    CBOR(MediaType.APPLICATION_CBOR, new CBORFactory()),
+    SMILE(MediaType.parseMediaType(FormatoResposta.APPLICATION_SMILE_VALUE), new SmileFactory());
+
+    static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private static final ContentNegotiationManager NEGOCIACAO_PADRAO = new ContentNegotiationManager();
+
+    private final MediaType tipo;
+    private final JsonFactory fabrica;
+
+    FormatoResposta(MediaType tipo, JsonFactory fabrica) {
+        this.tipo = tipo;
+        this.fabrica = fabrica;
+    }
+
+    MediaType tipo() {
+        return tipo;
+    }
+
+    JsonFactory fabrica() {
+        return fabrica;
+    }
+
+    String etag(String etag) {
+        return this == JSON
+                ? etag
+                : etag.substring(0, etag.length() - 1) + '+' + name().toLowerCase(Locale.ROOT) + '"';
+    }
+
+    // Usa a mesma resolução do Accept que os conversores do Spring MVC e prioriza o fator de qualidade, para que
+    // a ETag e o Content-Type descrevam a representação realmente enviada.
+    static FormatoResposta negociar(WebRequest request) {
+
+        List<MediaType> aceitos;
+
+        try {
+            aceitos = negociacao(request).resolveMediaTypes((NativeWebRequest) request);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return JSON;
+        }
+
+        return aceitos.stream()
+                .filter(aceito -> aceito.getQualityValue() > 0)
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .flatMap(aceito -> Arrays.stream(values()).filter(formato -> aceito.includes(formato.tipo)))
+                .findFirst()
+                .orElse(JSON);
+    }
+
+    private static ContentNegotiationManager negociacao(WebRequest request) {
+
+        WebApplicationContext contexto = RequestContextUtils.findWebApplicationContext(
+                ((NativeWebRequest) request).getNativeRequest(HttpServletRequest.class));
+
+        return contexto != null ? contexto.getBean(ContentNegotiationManager.class) : NEGOCIACAO_PADRAO;
+    }
+}
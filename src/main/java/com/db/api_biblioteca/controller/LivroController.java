@@ -1,31 +1,118 @@
 package com.db.api_biblioteca.controller;
 
+import com.db.api_biblioteca.domain.dto.ImportacaoResponse;
+import com.db.api_biblioteca.domain.dto.LivroPaginaParcialResponse;
+import com.db.api_biblioteca.domain.dto.LivroPaginaResponse;
 import com.db.api_biblioteca.domain.dto.LivroRequest;
 import com.db.api_biblioteca.domain.dto.LivroResponse;
 import com.db.api_biblioteca.domain.dto.LivroPorAutorResponse;
 import com.db.api_biblioteca.domain.dto.LivroUpdateRequest;
+import com.db.api_biblioteca.domain.service.CamposParciais;
+import com.db.api_biblioteca.domain.service.ImportacaoLivrosService;
 import com.db.api_biblioteca.domain.service.LivroService;
+import com.db.api_biblioteca.domain.service.VersaoCatalogo;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/livro")
 public class LivroController {
     @Autowired
     private final LivroService livroService;
+    private final ImportacaoLivrosService importacaoLivrosService;
+    private final VersaoCatalogo versaoCatalogo;
 
-    public LivroController(LivroService livroService) {
+    public LivroController(LivroService livroService, ImportacaoLivrosService importacaoLivrosService,
+                           VersaoCatalogo versaoCatalogo) {
         this.livroService = livroService;
+        this.importacaoLivrosService = importacaoLivrosService;
+        this.versaoCatalogo = versaoCatalogo;
     }
 
     @GetMapping
-    public ResponseEntity<List<LivroResponse>> listarLivros() {
+    public ResponseEntity<LivroPaginaResponse> listarLivros(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest request
+    ) {
+
+        return RespostaCondicional.seModificado(
+                request,
+                versaoCatalogo.etag(VersaoCatalogo.Agregado.LIVRO),
+                () -> livroService.listarLivros(after, limit)
+        );
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> listarLivrosJson(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest request
+    ) throws IOException {
+
+        String etag = versaoCatalogo.etag(VersaoCatalogo.Agregado.LIVRO);
+
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(livroService.listarLivrosJson(after, limit));
+    }
+
+    @GetMapping(params = "fields")
+    public ResponseEntity<LivroPaginaParcialResponse> listarLivrosParciais(
+            @RequestParam String fields,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest request
+    ) {
+
+        Set<String> campos = CamposParciais.interpretar(fields, LivroService.CAMPOS);
 
-        return ResponseEntity.ok(livroService.listarLivros());
+        return RespostaCondicional.seModificado(
+                request,
+                RespostaCondicional.etagParcial(versaoCatalogo.etag(VersaoCatalogo.Agregado.LIVRO), campos),
+                () -> livroService.listarLivrosParciais(campos, after, limit)
+        );
+    }
+
+    @GetMapping("/busca")
+    public ResponseEntity<LivroPaginaResponse> buscarLivros(
+            @RequestParam String q,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest request
+    ) {
+
+        return RespostaCondicional.seModificado(
+                request,
+                versaoCatalogo.etag(VersaoCatalogo.Agregado.LIVRO),
+                () -> livroService.buscarLivros(q, after, limit)
+        );
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportarLivros() {
+
+        StreamingResponseBody corpo = livroService::exportarLivros;
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
     }
 
     @GetMapping("/{livroId}")
@@ -35,6 +122,17 @@ public class LivroController {
         return ResponseEntity.ok(livroService.buscarLivroPorId(livroId));
     }
 
+    @GetMapping(value = "/{livroId}", params = "fields")
+    public ResponseEntity<Map<String, Object>> buscarLivroParcialPorId(
+            @PathVariable Long livroId,
+            @RequestParam String fields
+    ) {
+        return ResponseEntity.ok(livroService.buscarLivroParcialPorId(
+                livroId,
+                CamposParciais.interpretar(fields, LivroService.CAMPOS)
+        ));
+    }
+
     @GetMapping("/autor/{autorId}/listar")
     public ResponseEntity<List<LivroPorAutorResponse>> listarLivrosPorIdAutor(
             @PathVariable Long autorId
@@ -49,6 +147,16 @@ public class LivroController {
         return ResponseEntity.ok(livroService.salvarLivro(livroRequest));
     }
 
+    @PostMapping(value = "/lote", consumes = "text/csv")
+    public ResponseEntity<ImportacaoResponse> importarLivrosCsv(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(importacaoLivrosService.importarCsv(corpo));
+    }
+
+    @PostMapping(value = "/lote", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportacaoResponse> importarLivrosNdjson(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(importacaoLivrosService.importarNdjson(corpo));
+    }
+
     @PutMapping("adicionar/{livroId}/autor/{autorId}")
     public ResponseEntity<LivroResponse> adicionarAutorAoLivro(
             @PathVariable Long livroId,
@@ -2,27 +2,79 @@ package com.db.api_biblioteca.controller;
 
 import com.db.api_biblioteca.domain.dto.*;
 import com.db.api_biblioteca.domain.entity.Locatario;
+import com.db.api_biblioteca.domain.service.CamposParciais;
+import com.db.api_biblioteca.domain.service.ImportacaoLocatariosService;
 import com.db.api_biblioteca.domain.service.LocatarioService;
+import com.db.api_biblioteca.domain.service.VersaoCatalogo;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/locatario")
 public class LocatarioController {
     @Autowired
     private final LocatarioService locatarioService;
+    private final ImportacaoLocatariosService importacaoLocatariosService;
+    private final VersaoCatalogo versaoCatalogo;
 
-    public LocatarioController(LocatarioService locatarioService) {
+    public LocatarioController(LocatarioService locatarioService, ImportacaoLocatariosService importacaoLocatariosService,
+                               VersaoCatalogo versaoCatalogo) {
         this.locatarioService = locatarioService;
+        this.importacaoLocatariosService = importacaoLocatariosService;
+        this.versaoCatalogo = versaoCatalogo;
     }
 
     @GetMapping
-    public ResponseEntity<List<LocatarioResponse>> listarLocatarios() {
-        return ResponseEntity.ok(locatarioService.listarLocatarios());
+    public ResponseEntity<List<LocatarioResponse>> listarLocatarios(WebRequest request) {
+        return RespostaCondicional.seModificado(
+                request,
+                versaoCatalogo.etag(VersaoCatalogo.Agregado.LOCATARIO, VersaoCatalogo.Agregado.ALUGUEL),
+                locatarioService::listarLocatarios
+        );
+    }
+
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> listarLocatariosParciais(
+            @RequestParam String fields,
+            WebRequest request
+    ) {
+
+        Set<String> campos = CamposParciais.interpretar(fields, LocatarioService.CAMPOS);
+
+        return RespostaCondicional.seModificado(
+                request,
+                RespostaCondicional.etagParcial(
+                        versaoCatalogo.etag(VersaoCatalogo.Agregado.LOCATARIO, VersaoCatalogo.Agregado.ALUGUEL),
+                        campos
+                ),
+                () -> locatarioService.listarLocatariosParciais(campos)
+        );
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<LocatarioResponse> buscarLocatarioPorId(@PathVariable Long id) {
+        return ResponseEntity.ok(locatarioService.buscarLocatarioPorId(id));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> buscarLocatarioParcialPorId(
+            @PathVariable Long id,
+            @RequestParam String fields
+    ) {
+        return ResponseEntity.ok(locatarioService.buscarLocatarioParcialPorId(
+                id,
+                CamposParciais.interpretar(fields, LocatarioService.CAMPOS)
+        ));
     }
 
     @PostMapping
@@ -32,10 +84,20 @@ public class LocatarioController {
        return ResponseEntity.ok(locatarioService.salvarLocatario(locatarioRequest));
     }
 
+    @PostMapping(value = "/lote", consumes = "text/csv")
+    public ResponseEntity<ImportacaoResponse> importarLocatariosCsv(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(importacaoLocatariosService.importarCsv(corpo));
+    }
+
+    @PostMapping(value = "/lote", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportacaoResponse> importarLocatariosNdjson(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(importacaoLocatariosService.importarNdjson(corpo));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<LocatarioResponse> atualizarLocatario(
             @PathVariable Long id,
-            @RequestBody LocatarioUpdateRequest locatarioRequest
+            @RequestBody @Valid LocatarioUpdateRequest locatarioRequest
     ) {
         return ResponseEntity.ok(locatarioService.atualizarLocatario(id, locatarioRequest));
     }
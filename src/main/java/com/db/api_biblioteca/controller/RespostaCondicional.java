@@ -0,0 +1,39 @@
+package com.db.api_biblioteca.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+final class RespostaCondicional {
+
+    private RespostaCondicional() {
+    }
+
+    static String etagParcial(String etag, Set<String> campos) {
+        return etag.substring(0, etag.length() - 1) + ';' + String.join(",", campos) + '"';
+    }
+
+    static <T> ResponseEntity<T> seModificado(WebRequest request, String etag, Supplier<T> corpo) {
+
+        if (request.checkNotModified(FormatoResposta.negociar(request).etag(etag))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        return ResponseEntity.ok()
+                .body(corpo.get());
+    }
+
+    static <T> ResponseEntity<T> seModificado(WebRequest request, String etag, FormatoResposta formato, Supplier<T> corpo) {
+
+        if (request.checkNotModified(formato.etag(etag))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(formato.tipo())
+                .body(corpo.get());
+    }
+}
@@ -0,0 +1,56 @@
+package com.db.api_biblioteca.controller;
+
+import com.db.api_biblioteca.domain.exception.ConflitoException;
+import com.db.api_biblioteca.domain.exception.DominioException;
+import com.db.api_biblioteca.domain.exception.RecursoNaoEncontradoException;
+import com.db.api_biblioteca.domain.exception.ValidacaoException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import java.util.stream.Collectors;
+
+@RestControllerAdvice
+class TratadorDeExcecoes extends ResponseEntityExceptionHandler {
+
+    @ExceptionHandler(RecursoNaoEncontradoException.class)
+    ProblemDetail naoEncontrado(RecursoNaoEncontradoException e) {
+        return problema(HttpStatus.NOT_FOUND, e);
+    }
+
+    @ExceptionHandler(ConflitoException.class)
+    ProblemDetail conflito(ConflitoException e) {
+        return problema(HttpStatus.CONFLICT, e);
+    }
+
+    @ExceptionHandler(ValidacaoException.class)
+    ProblemDetail validacao(ValidacaoException e) {
+        return problema(HttpStatus.BAD_REQUEST, e);
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException e, HttpHeaders headers,
+                                                                  HttpStatusCode status, WebRequest request) {
+
+        String detalhe = e.getBindingResult()
+                .getAllErrors()
+                .stream()
+                .map(DefaultMessageSourceResolvable::getDefaultMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+
+        return handleExceptionInternal(e, ProblemDetail.forStatusAndDetail(status, detalhe), headers, status, request);
+    }
+
+    private static ProblemDetail problema(HttpStatus status, DominioException e) {
+        return ProblemDetail.forStatusAndDetail(status, e.getMessage());
+    }
+}
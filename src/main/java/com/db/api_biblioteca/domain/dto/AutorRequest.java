@@ -1,23 +1,27 @@
 package com.db.api_biblioteca.domain.dto;
 
+import com.db.api_biblioteca.domain.validation.CpfValido;
+import com.db.api_biblioteca.domain.validation.DataIso;
+import com.db.api_biblioteca.domain.validation.Sexo;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
 
 public record AutorRequest (
 
         @NotBlank(message = "Nome é obrigatório!")
         String nome,
 
+        @Sexo
         String sexo,
 
         @NotNull(message = "Data de nascimento é obrigatória!")
+        @DataIso(
+                permitirFuturo = false,
+                message = "Data de nascimento no formato inválido ou no futuro! Favor fornecer data no formato aaaa-mm-dd!"
+        )
         String dataDeNascimento,
 
         @NotBlank(message = "CPF é obrigatório!")
-        @Pattern(
-                regexp = "\\d{11}",
-                message = "CPF deve conter 11 dígitos numéricos"
-        )
+        @CpfValido
         String cpf) {
 }
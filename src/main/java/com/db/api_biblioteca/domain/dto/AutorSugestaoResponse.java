@@ -0,0 +1,6 @@
+package com.db.api_biblioteca.domain.dto;
+
+public record AutorSugestaoResponse(
+        Long id,
+        String nome) {
+}
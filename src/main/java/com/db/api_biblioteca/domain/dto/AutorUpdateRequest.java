@@ -1,15 +1,19 @@
 package com.db.api_biblioteca.domain.dto;
 
-import jakarta.validation.constraints.Pattern;
+import com.db.api_biblioteca.domain.validation.CpfValido;
+import com.db.api_biblioteca.domain.validation.DataIso;
+import com.db.api_biblioteca.domain.validation.Sexo;
 
 public record AutorUpdateRequest(
 
         String nome,
+        @Sexo
         String sexo,
-        String dataDeNascimento,
-        @Pattern(
-                regexp = "\\d{11}",
-                message = "CPF deve conter 11 dígitos numéricos"
+        @DataIso(
+                permitirFuturo = false,
+                message = "Data de nascimento no formato inválido ou no futuro! Favor fornecer data no formato aaaa-mm-dd!"
         )
+        String dataDeNascimento,
+        @CpfValido
         String cpf) {
 }
@@ -0,0 +1,4 @@
+package com.db.api_biblioteca.domain.dto;
+
+public record ErroImportacaoResponse(long linha, String mensagem) {
+}
@@ -0,0 +1,10 @@
+package com.db.api_biblioteca.domain.dto;
+
+import java.util.List;
+
+public record EstatisticasCacheResponse(
+        long acertos,
+        long falhas,
+        long insercoes,
+        List<RegiaoCacheResponse> regioes) {
+}
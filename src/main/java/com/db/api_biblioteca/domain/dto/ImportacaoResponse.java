@@ -0,0 +1,9 @@
+package com.db.api_biblioteca.domain.dto;
+
+import java.util.List;
+
+public record ImportacaoResponse(
+        long linhasProcessadas,
+        long registrosImportados,
+        List<ErroImportacaoResponse> erros) {
+}
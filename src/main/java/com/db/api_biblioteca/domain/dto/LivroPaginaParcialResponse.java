@@ -0,0 +1,9 @@
+package com.db.api_biblioteca.domain.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record LivroPaginaParcialResponse(
+        List<Map<String, Object>> livros,
+        String proximoCursor) {
+}
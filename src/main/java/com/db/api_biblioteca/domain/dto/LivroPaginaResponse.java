@@ -0,0 +1,8 @@
+package com.db.api_biblioteca.domain.dto;
+
+import java.util.List;
+
+public record LivroPaginaResponse(
+        List<LivroResponse> livros,
+        String proximoCursor) {
+}
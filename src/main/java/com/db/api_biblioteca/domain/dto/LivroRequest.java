@@ -1,5 +1,6 @@
 package com.db.api_biblioteca.domain.dto;
 
+import com.db.api_biblioteca.domain.validation.DataIso;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -20,6 +21,7 @@ public record LivroRequest (
         String isbn,
 
         @NotNull(message = "Data de publicação é obrigatória!")
+        @DataIso(message = "Data de publicação no formato inválido! Favor fornecer data no formato aaaa-mm-dd!")
         String dataDePublicacao,
 
         @NotNull(message = "O livro deve possuir ao menos um autor!")
@@ -1,5 +1,6 @@
 package com.db.api_biblioteca.domain.dto;
 
+import com.db.api_biblioteca.domain.validation.DataIso;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
@@ -12,6 +13,7 @@ public record LivroUpdateRequest(
             message = "ISBN deve conter 13 dígitos numéricos começando por 978 ou 979!"
     )
     String isbn,
+    @DataIso(message = "Data de publicação inválida!")
     String dataDePublicacao,
 
     @Size(min = 1, message = "O livro deve possuir ao menos um autor!")
@@ -1,5 +1,8 @@
 package com.db.api_biblioteca.domain.dto;
 
+import com.db.api_biblioteca.domain.validation.CpfValido;
+import com.db.api_biblioteca.domain.validation.DataIso;
+import com.db.api_biblioteca.domain.validation.Sexo;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -9,6 +12,7 @@ public record LocatarioRequest (
         @NotBlank(message = "Nome é obrigatório!")
         String nome,
 
+        @Sexo
         String sexo,
 
         @NotBlank(message = "Telefone é obrigatório!")
@@ -26,12 +30,13 @@ public record LocatarioRequest (
         String email,
 
         @NotNull(message = "Data de nascimento é obrigatória!")
+        @DataIso(
+                permitirFuturo = false,
+                message = "Data de nascimento no formato inválido ou no futuro! Favor fornecer data no formato aaaa-mm-dd!"
+        )
         String dataDeNascimento,
 
         @NotBlank(message = "CPF é obrigatório!")
-        @Pattern(
-                regexp = "\\d{11}",
-                message = "CPF deve conter 11 dígitos numéricos"
-        )
+        @CpfValido
         String cpf) {
 }
@@ -1,9 +1,13 @@
 package com.db.api_biblioteca.domain.dto;
 
+import com.db.api_biblioteca.domain.validation.CpfValido;
+import com.db.api_biblioteca.domain.validation.DataIso;
+import com.db.api_biblioteca.domain.validation.Sexo;
 import jakarta.validation.constraints.Pattern;
 
 public record LocatarioUpdateRequest(
         String nome,
+        @Sexo
         String sexo,
 
         @Pattern(
@@ -19,10 +23,11 @@ public record LocatarioUpdateRequest(
         String email,
 
 
-        String dataDeNascimento,
-        @Pattern(
-                regexp = "\\d{11}",
-                message = "CPF deve conter 11 dígitos numéricos"
+        @DataIso(
+                permitirFuturo = false,
+                message = "Data de nascimento no formato inválido ou no futuro! Favor fornecer data no formato aaaa-mm-dd!"
         )
+        String dataDeNascimento,
+        @CpfValido
         String cpf) {
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.db.api_biblioteca.domain.dto;
+
+public record RegiaoCacheResponse(
+        String regiao,
+        long acertos,
+        long falhas,
+        long insercoes) {
+}
@@ -3,21 +3,23 @@ package com.db.api_biblioteca.domain.entity;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
-@Table(name = "aluguel")
+@Table(name = "aluguel", indexes = @Index(name = "idx_aluguel_locatario", columnList = "locatario_id"))
 public class Aluguel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "aluguel_seq")
+    @SequenceGenerator(name = "aluguel_seq", sequenceName = "aluguel_seq", allocationSize = 50)
     private Long id;
 
     private LocalDate dataRetirada;
     private LocalDate dataDevolucao;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "locatario_id", nullable = false)
     private Locatario locatario;
 
@@ -26,15 +28,16 @@ public class Aluguel {
     @JoinTable(
             name = "aluguel_livro",
             joinColumns = @JoinColumn(name = "aluguel_id"),
-            inverseJoinColumns = @JoinColumn(name = "livro_id")
+            inverseJoinColumns = @JoinColumn(name = "livro_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_aluguel_livro_livro", columnNames = "livro_id")
     )
-    private List<Livro> livros = new ArrayList<>();
+    private Set<Livro> livros = new HashSet<>();
 
-    public Aluguel(Locatario locatario, List<Livro> livros) {
+    public Aluguel(Locatario locatario, Collection<Livro> livros) {
         this.dataRetirada = LocalDate.now();
         this.dataDevolucao = dataRetirada.plusDays(2);
         this.locatario = locatario;
-        this.livros = livros;
+        this.livros = new HashSet<>(livros);
     }
 
     protected Aluguel() {}
@@ -57,11 +60,11 @@ public class Aluguel {
         this.dataDevolucao = dataDevolucao;
     }
 
-    public List<Livro> getLivros() {
+    public Set<Livro> getLivros() {
         return livros;
     }
 
-    public void setLivros(List<Livro> livros) {
+    public void setLivros(Set<Livro> livros) {
         this.livros = livros;
     }
 
@@ -71,4 +74,18 @@ public class Aluguel {
         this.locatario = locatario;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        return o instanceof Aluguel outro && getId() != null && getId().equals(outro.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Aluguel.class.hashCode();
+    }
+
 }
@@ -1,17 +1,22 @@
 package com.db.api_biblioteca.domain.entity;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Table(name = "autor")
-
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "autor")
+@DynamicUpdate
 public class Autor {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "autor_seq")
+    @SequenceGenerator(name = "autor_seq", sequenceName = "autor_seq", allocationSize = 50)
     private Long id;
     private String nome;
     private String sexo;
@@ -20,8 +25,9 @@ public class Autor {
     @Column(name = "CPF", unique = true, nullable = false)
     private String cpf;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "autor-livros")
     @ManyToMany(mappedBy = "autores")
-    private List<Livro> livros = new ArrayList<>();
+    private Set<Livro> livros = new HashSet<>();
 
     public Autor(String nome, LocalDate dataDeNascimento, String cpf) {
         this.nome = nome;
@@ -68,12 +74,26 @@ public class Autor {
         this.cpf = cpf;
     }
 
-    public List<Livro> getLivros() {
+    public Set<Livro> getLivros() {
         return livros;
     }
 
-    public void setLivros(List<Livro> livros) {
+    public void setLivros(Set<Livro> livros) {
         this.livros = livros;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        return o instanceof Autor outro && getId() != null && getId().equals(outro.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Autor.class.hashCode();
+    }
 }
 
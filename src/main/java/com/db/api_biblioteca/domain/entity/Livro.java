@@ -1,32 +1,40 @@
 package com.db.api_biblioteca.domain.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "livro")
-
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "livro")
+@DynamicUpdate
 public class Livro {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "livro_seq")
+    @SequenceGenerator(name = "livro_seq", sequenceName = "livro_seq", allocationSize = 50)
     private Long id;
     private String nome;
+    @Column(unique = true)
     private String isbn;
     private LocalDate dataDePublicacao;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "livro-autores")
     @ManyToMany
     @JoinTable(
             name = "autor_livro",
             joinColumns = @JoinColumn(name = "livro_id"),
-            inverseJoinColumns = @JoinColumn(name = "autor_id")
+            inverseJoinColumns = @JoinColumn(name = "autor_id"),
+            indexes = @Index(name = "idx_autor_livro_autor", columnList = "autor_id")
     )
-    private List<Autor> autores = new ArrayList<>();
+    private Set<Autor> autores = new HashSet<>();
 
     @ManyToMany(mappedBy = "livros")
-    private List<Aluguel> alugueis = new ArrayList<>();
+    private Set<Aluguel> alugueis = new HashSet<>();
 
     protected Livro() {
     }
@@ -45,7 +53,7 @@ public class Livro {
         return nome;
     }
 
-    public List<Autor> getAutores() {
+    public Set<Autor> getAutores() {
         return autores;
     }
 
@@ -58,7 +66,7 @@ public class Livro {
     }
 
     public void setIsbd(String isbd) {
-        this.isbn = isbn;
+        this.isbn = isbd;
     }
 
     public LocalDate getDataDePublicacao() {
@@ -69,9 +77,22 @@ public class Livro {
         this.dataDePublicacao = dataDePublicacao;
     }
 
-    public List<Aluguel> getAlugueis() {
+    public Set<Aluguel> getAlugueis() {
         return alugueis;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        return o instanceof Livro outro && getId() != null && getId().equals(outro.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Livro.class.hashCode();
+    }
 
 }
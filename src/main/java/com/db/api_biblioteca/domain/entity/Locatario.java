@@ -1,6 +1,7 @@
 package com.db.api_biblioteca.domain.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -8,10 +9,12 @@ import java.util.List;
 
 @Entity
 @Table(name = "locatario")
+@DynamicUpdate
 public class Locatario {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "locatario_seq")
+    @SequenceGenerator(name = "locatario_seq", sequenceName = "locatario_seq", allocationSize = 50)
     private Long id;
 
     private String nome;
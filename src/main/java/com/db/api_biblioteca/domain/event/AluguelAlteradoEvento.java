@@ -0,0 +1,6 @@
+package com.db.api_biblioteca.domain.event;
+
+import java.util.Set;
+
+public record AluguelAlteradoEvento(Long aluguelId, Set<Long> livrosIds) {
+}
@@ -0,0 +1,4 @@
+package com.db.api_biblioteca.domain.event;
+
+public record AutorAlteradoEvento(Long autorId, String nome) {
+}
@@ -0,0 +1,6 @@
+package com.db.api_biblioteca.domain.event;
+
+import java.util.Set;
+
+public record LivroAlteradoEvento(Long livroId, String nome, Set<Long> autoresIds) {
+}
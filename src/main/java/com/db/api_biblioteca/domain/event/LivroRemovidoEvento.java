@@ -0,0 +1,6 @@
+package com.db.api_biblioteca.domain.event;
+
+import java.util.Set;
+
+public record LivroRemovidoEvento(Long livroId, Set<Long> autoresIds) {
+}
@@ -0,0 +1,8 @@
+package com.db.api_biblioteca.domain.exception;
+
+public class ConflitoException extends DominioException {
+
+    public ConflitoException(String message) {
+        super(message);
+    }
+}
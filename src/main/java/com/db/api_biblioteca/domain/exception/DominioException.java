@@ -0,0 +1,8 @@
+package com.db.api_biblioteca.domain.exception;
+
+public abstract class DominioException extends RuntimeException {
+
+    protected DominioException(String message) {
+        super(message, null, false, false);
+    }
+}
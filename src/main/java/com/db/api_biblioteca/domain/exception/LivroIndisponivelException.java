@@ -0,0 +1,8 @@
+package com.db.api_biblioteca.domain.exception;
+
+public class LivroIndisponivelException extends ConflitoException {
+
+    public LivroIndisponivelException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.db.api_biblioteca.domain.exception;
+
+public class RecursoNaoEncontradoException extends DominioException {
+
+    public RecursoNaoEncontradoException(String message) {
+        super(message);
+    }
+}
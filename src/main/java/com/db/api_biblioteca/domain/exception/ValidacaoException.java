@@ -0,0 +1,8 @@
+package com.db.api_biblioteca.domain.exception;
+
+public class ValidacaoException extends DominioException {
+
+    public ValidacaoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,73 @@
+package com.db.api_biblioteca.domain.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@DependsOn("entityManagerFactory")
+public class AjusteSequencias {
+
+    private static final int TAMANHO_ALOCACAO = 50;
+
+    private static final Map<String, String> SEQUENCIA_POR_TABELA = Map.of(
+            "livro", "livro_seq",
+            "autor", "autor_seq",
+            "locatario", "locatario_seq",
+            "aluguel", "aluguel_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceSupport sequencias;
+
+    public AjusteSequencias(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequencias = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport();
+    }
+
+    // Bancos criados com colunas IDENTITY já têm ids acima do início das sequências; o otimizador pooled
+    // entrega o bloco (valor - 49 .. valor), por isso a sequência precisa começar em max(id) + 50.
+    @PostConstruct
+    public void ajustar() {
+
+        if (!sequencias.supportsSequences()) {
+            return;
+        }
+
+        SEQUENCIA_POR_TABELA.forEach((tabela, sequencia) -> {
+
+            Long proximo = proximoValor(sequencia);
+
+            if (proximo == null) {
+                return;
+            }
+
+            long inicio = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + tabela, Long.class)
+                    + TAMANHO_ALOCACAO;
+
+            if (proximo < inicio) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequencia + " RESTART WITH " + inicio);
+            }
+        });
+    }
+
+    // O próximo valor vem do dialeto, e não do information_schema de um banco específico; consumir um valor só
+    // descarta um bloco de ids. Uma sequência ausente fica como está.
+    private Long proximoValor(String sequencia) {
+        try {
+            return jdbcTemplate.queryForObject(sequencias.getSequenceNextValString(sequencia), Long.class);
+        } catch (DataAccessException e) {
+            return null;
+        }
+    }
+}
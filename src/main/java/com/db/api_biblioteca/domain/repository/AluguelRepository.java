@@ -1,21 +1,27 @@
 package com.db.api_biblioteca.domain.repository;
 
 import com.db.api_biblioteca.domain.entity.Aluguel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AluguelRepository extends JpaRepository<Aluguel, Long> {
     boolean existsByLivros_Id(Long livroId);
     boolean existsByLocatario_Id(Long locatarioId);
     boolean existsByLivrosIdIn(List<Long> livrosIds);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
     @Query("""
-    SELECT DISTINCT l.id
+    SELECT new com.db.api_biblioteca.domain.repository.LinhaAluguel(a.id, a.dataRetirada, a.dataDevolucao, a.locatario.id, l.id)
     FROM Aluguel a
-    JOIN a.livros l
+    LEFT JOIN a.livros l
+    ORDER BY a.id
 """)
-    List<Long> buscarIdsLivrosAlugados();
+    Stream<LinhaAluguel> buscarTodosEmFluxo();
 }
@@ -1,12 +1,42 @@
 package com.db.api_biblioteca.domain.repository;
 
+import com.db.api_biblioteca.domain.dto.AutorSugestaoResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.db.api_biblioteca.domain.entity.Autor;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AutorRepository extends JpaRepository<Autor, Long> {
     boolean existsByCpf(String cpf);
+    boolean existsByIdAndLivrosIsNotEmpty(Long id);
     Optional<Autor> findByNomeIgnoreCase(String nome);
     Optional<Autor> findById(Long id);
+
+    @Query("SELECT a.id FROM Autor a WHERE a.id IN :ids")
+    List<Long> buscarIdsExistentes(Collection<Long> ids);
+
+    @Query("SELECT new com.db.api_biblioteca.domain.dto.AutorSugestaoResponse(a.id, a.nome) FROM Autor a")
+    List<AutorSugestaoResponse> buscarTodosNomes();
+
+    @Query("""
+    SELECT new com.db.api_biblioteca.domain.repository.ParDeIds(a.id, l.id)
+    FROM Autor a
+    JOIN a.livros l
+""")
+    List<ParDeIds> buscarTodosLivrosIds();
+
+    @Query("SELECT l.id FROM Autor a JOIN a.livros l WHERE a.id = :autorId ORDER BY l.id")
+    List<Long> buscarLivrosIdsPorAutor(Long autorId);
+
+    @Query("""
+    SELECT new com.db.api_biblioteca.domain.repository.LivroDoAutor(l.id, l.nome, l.isbn, l.dataDePublicacao)
+    FROM Autor a
+    JOIN a.livros l
+    WHERE a.id = :autorId
+    ORDER BY l.id
+""")
+    List<LivroDoAutor> buscarLivrosPorAutor(Long autorId);
 }
@@ -0,0 +1,11 @@
+package com.db.api_biblioteca.domain.repository;
+
+import java.time.LocalDate;
+
+public record LinhaAluguel(
+        Long aluguelId,
+        LocalDate dataRetirada,
+        LocalDate dataDevolucao,
+        Long locatarioId,
+        Long livroId) {
+}
@@ -0,0 +1,6 @@
+package com.db.api_biblioteca.domain.repository;
+
+import java.time.LocalDate;
+
+public record LivroDoAutor(Long id, String nome, String isbn, LocalDate dataDePublicacao) {
+}
@@ -1,8 +1,105 @@
 package com.db.api_biblioteca.domain.repository;
 
 import com.db.api_biblioteca.domain.entity.Livro;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface LivroRepository extends JpaRepository<Livro, Long> {
+
+    // Espaço que nenhuma entidade mapeia: escritas nativas em autor_livro não limpam regiões do cache; o
+    // InvalidacaoCacheListener remove apenas as coleções alteradas.
+    String SEM_INVALIDACAO_DE_CACHE = "autor_livro_associacao";
+
     boolean existsByIsbn(String isbn);
+    boolean existsByIdAndAutores_Id(Long livroId, Long autorId);
+    List<Livro> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT l.isbn FROM Livro l WHERE l.isbn IN :isbns")
+    List<String> buscarIsbnsExistentes(Collection<String> isbns);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l FROM Livro l ORDER BY l.id")
+    Stream<Livro> buscarTodosEmFluxo();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.db.api_biblioteca.domain.repository.TituloDeLivro(l.id, l.nome) FROM Livro l")
+    Stream<TituloDeLivro> buscarTodosTitulos();
+
+    @Query("""
+    SELECT new com.db.api_biblioteca.domain.repository.ParDeIds(l.id, a.id)
+    FROM Livro l
+    JOIN l.autores a
+    WHERE l.id IN :livrosIds
+""")
+    List<ParDeIds> buscarAutoresIdsPorLivros(Collection<Long> livrosIds);
+
+    @Query("SELECT a.id FROM Livro l JOIN l.autores a WHERE l.id = :livroId ORDER BY a.id")
+    List<Long> buscarAutoresIds(Long livroId);
+
+    // Trava a linha do livro para que duas remoções simultâneas não contem os mesmos autores e deixem o livro sem
+    // nenhum.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Livro l WHERE l.id = :livroId")
+    Optional<Livro> buscarParaAlterarAutores(Long livroId);
+
+    @Query("SELECT COUNT(a) FROM Livro l JOIN l.autores a WHERE l.id = :livroId")
+    long contarAutores(Long livroId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SEM_INVALIDACAO_DE_CACHE))
+    @Query(value = "INSERT INTO autor_livro (livro_id, autor_id) VALUES (:livroId, :autorId)", nativeQuery = true)
+    void associarAutor(Long livroId, Long autorId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SEM_INVALIDACAO_DE_CACHE))
+    @Query(value = "DELETE FROM autor_livro WHERE livro_id = :livroId AND autor_id = :autorId", nativeQuery = true)
+    void desassociarAutor(Long livroId, Long autorId);
+
+    @Query("""
+    SELECT l
+    FROM Livro l
+    WHERE l.id IN (
+        SELECT al.id
+        FROM Aluguel a
+        JOIN a.livros al
+        WHERE a.locatario.id = :locatarioId
+    )
+    ORDER BY l.id
+""")
+    List<Livro> buscarAlugadosPorLocatario(Long locatarioId);
+
+    @Query(value = """
+    SELECT l.*
+    FROM livro l
+    WHERE l.id > :ultimoId
+      AND NOT EXISTS (SELECT 1 FROM aluguel_livro al WHERE al.livro_id = l.id)
+    ORDER BY l.id
+    LIMIT :limite
+""", nativeQuery = true)
+    List<Livro> buscarDisponiveis(long ultimoId, int limite);
+
+    @Query(value = """
+    SELECT l.*
+    FROM livro l
+    WHERE l.id > :ultimoId
+      AND EXISTS (SELECT 1 FROM aluguel_livro al WHERE al.livro_id = l.id)
+    ORDER BY l.id
+    LIMIT :limite
+""", nativeQuery = true)
+    List<Livro> buscarAlugados(long ultimoId, int limite);
 }
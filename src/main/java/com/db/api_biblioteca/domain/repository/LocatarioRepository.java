@@ -1,12 +1,42 @@
 package com.db.api_biblioteca.domain.repository;
 
 import com.db.api_biblioteca.domain.entity.Locatario;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface LocatarioRepository extends JpaRepository<Locatario, Long> {
     boolean existsByCpf(String cpf);
     boolean existsByEmail(String email);
     Optional<Locatario> findById(Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT l.cpf FROM Locatario l")
+    Stream<String> buscarTodosCpfs();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT l.email FROM Locatario l")
+    Stream<String> buscarTodosEmails();
+
+    @Query("SELECT l.cpf FROM Locatario l WHERE l.cpf IN :cpfs")
+    List<String> buscarCpfsExistentes(Collection<String> cpfs);
+
+    @Query("SELECT l.email FROM Locatario l WHERE l.email IN :emails")
+    List<String> buscarEmailsExistentes(Collection<String> emails);
+
+    @Query("""
+    SELECT new com.db.api_biblioteca.domain.repository.ParDeIds(a.locatario.id, a.id)
+    FROM Aluguel a
+""")
+    List<ParDeIds> buscarTodosAlugueisIds();
+
+    @Query("SELECT a.id FROM Aluguel a WHERE a.locatario.id = :locatarioId")
+    List<Long> buscarAlugueisIdsPorLocatario(Long locatarioId);
 }
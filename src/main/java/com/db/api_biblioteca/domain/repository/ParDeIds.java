@@ -0,0 +1,16 @@
+package com.db.api_biblioteca.domain.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public record ParDeIds(Long origemId, Long destinoId) {
+
+    public static Map<Long, List<Long>> agrupar(List<ParDeIds> pares) {
+        return pares.stream()
+                .collect(Collectors.groupingBy(
+                        ParDeIds::origemId,
+                        Collectors.mapping(ParDeIds::destinoId, Collectors.toList())
+                ));
+    }
+}
@@ -0,0 +1,43 @@
+package com.db.api_biblioteca.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.util.Streamable;
+
+import java.util.List;
+import java.util.Objects;
+
+public class RepositorioComCache<T, ID> extends SimpleJpaRepository<T, ID> {
+
+    private final JpaEntityInformation<T, ?> entityInformation;
+    private final EntityManager entityManager;
+
+    public RepositorioComCache(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityInformation = entityInformation;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<ID> ids) {
+
+        List<ID> lista = Streamable.of(ids).toList();
+
+        if (lista.isEmpty()) {
+            return List.of();
+        }
+
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(entityInformation.getJavaType())
+                .with(CacheMode.NORMAL)
+                .enableSessionCheck(true)
+                .multiLoad(lista)
+                .stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,4 @@
+package com.db.api_biblioteca.domain.repository;
+
+public record TituloDeLivro(Long id, String nome) {
+}
@@ -3,68 +3,123 @@ package com.db.api_biblioteca.domain.service;
 import com.db.api_biblioteca.domain.dto.AluguelRequest;
 import com.db.api_biblioteca.domain.dto.AluguelResponse;
 import com.db.api_biblioteca.domain.dto.AluguelUpdateRequest;
+import com.db.api_biblioteca.domain.dto.LivroPaginaResponse;
 import com.db.api_biblioteca.domain.dto.LivroResponse;
 import com.db.api_biblioteca.domain.entity.Aluguel;
-import com.db.api_biblioteca.domain.entity.Autor;
 import com.db.api_biblioteca.domain.entity.Livro;
 import com.db.api_biblioteca.domain.entity.Locatario;
+import com.db.api_biblioteca.domain.event.AluguelAlteradoEvento;
+import com.db.api_biblioteca.domain.exception.LivroIndisponivelException;
+import com.db.api_biblioteca.domain.exception.RecursoNaoEncontradoException;
+import com.db.api_biblioteca.domain.exception.ValidacaoException;
 import com.db.api_biblioteca.domain.repository.AluguelRepository;
+import com.db.api_biblioteca.domain.repository.LinhaAluguel;
 import com.db.api_biblioteca.domain.repository.LivroRepository;
 import com.db.api_biblioteca.domain.repository.LocatarioRepository;
-import jakarta.transaction.Transactional;
+import com.db.api_biblioteca.domain.repository.ParDeIds;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class AluguelService {
 
+    private final TravasPorLivro travasPorLivro = new TravasPorLivro();
     private final AluguelRepository aluguelRepository;
     private final LivroRepository livroRepository;
     private final LocatarioRepository locatarioRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AluguelService(AluguelRepository aluguelRepository, LivroRepository livroRepository, LocatarioRepository locatarioRepository) {
+    public AluguelService(AluguelRepository aluguelRepository, LivroRepository livroRepository, LocatarioRepository locatarioRepository,
+                          ApplicationEventPublisher eventPublisher) {
         this.aluguelRepository = aluguelRepository;
         this.livroRepository = livroRepository;
         this.locatarioRepository = locatarioRepository;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<AluguelResponse> listarAlugueis() {
-
-        return aluguelRepository.findAll()
-                .stream()
-                .map(aluguel -> new AluguelResponse(
-                        aluguel.getId(),
-                        aluguel.getDataRetirada().toString(),
-                        aluguel.getDataDevolucao().toString(),
-                        aluguel.getLocatario().getId(),
-                        aluguel.getLivros()
-                                .stream()
-                                .map(Livro::getId)
-                                .toList()
-                ))
-                .toList();
+    @Transactional(readOnly = true)
+    public void escreverAlugueis(OutputStream saida, JsonFactory formato) throws IOException {
+
+        try (Stream<LinhaAluguel> linhas = aluguelRepository.buscarTodosEmFluxo();
+             JsonGenerator gerador = formato.createGenerator(saida)) {
+
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gerador.writeStartArray();
+
+            Iterator<LinhaAluguel> iterator = linhas.iterator();
+            Long aluguelAtual = null;
+
+            while (iterator.hasNext()) {
+                LinhaAluguel linha = iterator.next();
+
+                if (!linha.aluguelId().equals(aluguelAtual)) {
+                    if (aluguelAtual != null) {
+                        gerador.writeEndArray();
+                        gerador.writeEndObject();
+                    }
+
+                    aluguelAtual = linha.aluguelId();
+
+                    gerador.writeStartObject();
+                    gerador.writeNumberField("id", linha.aluguelId());
+                    gerador.writeStringField("dataRetirada", linha.dataRetirada().toString());
+                    gerador.writeStringField("dataDevolucao", linha.dataDevolucao().toString());
+                    gerador.writeNumberField("locatarioId", linha.locatarioId());
+                    gerador.writeArrayFieldStart("livrosIds");
+                }
+
+                if (linha.livroId() != null) {
+                    gerador.writeNumber(linha.livroId());
+                }
+            }
+
+            if (aluguelAtual != null) {
+                gerador.writeEndArray();
+                gerador.writeEndObject();
+            }
+
+            gerador.writeEndArray();
+        }
     }
 
+    @Transactional
     public AluguelResponse salvarAluguel(AluguelRequest aluguelRequest) {
 
+        travasPorLivro.travarAteFimDaTransacao(aluguelRequest.livrosIds());
+
         Locatario locatario = locatarioRepository.findById(aluguelRequest.locatarioId())
                 .orElseThrow(() ->
-                        new RuntimeException("Locatário com id " + aluguelRequest.locatarioId() + " não encontrado!")
+                        new RecursoNaoEncontradoException("Locatário com id " + aluguelRequest.locatarioId() + " não encontrado!")
                 );
 
         List<Livro> livros = livroRepository.findAllById(aluguelRequest.livrosIds());
 
         if (livros.size() != aluguelRequest.livrosIds().size()) {
-            throw new RuntimeException("Um ou mais livros não foram encontrados!");
+            throw new RecursoNaoEncontradoException("Um ou mais livros não foram encontrados!");
         }
 
         if (aluguelRepository.existsByLivrosIdIn(aluguelRequest.livrosIds())) {
-            throw new RuntimeException("Um ou mais livros estão alugados!");
+            throw new LivroIndisponivelException("Um ou mais livros estão alugados!");
         }
 
-        Aluguel aluguel = new Aluguel(locatario, livros);
+        Aluguel aluguelSalvo = salvarReservandoLivros(new Aluguel(locatario, livros));
 
-        Aluguel aluguelSalvo = aluguelRepository.save(aluguel);
+        eventPublisher.publishEvent(new AluguelAlteradoEvento(aluguelSalvo.getId(), idsDosLivros(livros)));
 
         return new AluguelResponse(
                 aluguelSalvo.getId(),
@@ -79,90 +134,68 @@ public class AluguelService {
 
     }
 
-    public List<LivroResponse> listarLivrosDisponiveis() {
+    public LivroPaginaResponse listarLivrosDisponiveis(String cursor, int limite) {
 
-        List<Long> livrosAlugadosIds = aluguelRepository.buscarIdsLivrosAlugados();
+        CursorPaginacao.validarLimite(limite);
 
-        return livroRepository.findAll()
-                .stream()
-                .filter(livro -> !livrosAlugadosIds.contains(livro.getId()))
-                .map(livro -> new LivroResponse(
-                        livro.getId(),
-                        livro.getNome(),
-                        livro.getIsbn(),
-                        livro.getDataDePublicacao().toString(),
-                        livro.getAutores()
-                                .stream()
-                                .map(Autor::getId)
-                                .toList()
-                ))
-                .toList();
+        List<Livro> livros = livroRepository.buscarDisponiveis(CursorPaginacao.decodificar(cursor), limite + 1);
+
+        return new LivroPaginaResponse(
+                paraLivroResponses(CursorPaginacao.pagina(livros, limite)),
+                CursorPaginacao.proximoCursor(livros, limite, Livro::getId)
+        );
     }
 
-    public List<LivroResponse> listarLivrosAlugados() {
+    public LivroPaginaResponse listarLivrosAlugados(String cursor, int limite) {
 
-        return aluguelRepository.findAll()
-                .stream()
-                .flatMap(aluguel -> aluguel.getLivros().stream())
-                .distinct()
-                .map(livro -> new LivroResponse(
-                        livro.getId(),
-                        livro.getNome(),
-                        livro.getIsbn(),
-                        livro.getDataDePublicacao().toString(),
-                        livro.getAutores()
-                                .stream()
-                                .map(Autor::getId)
-                                .toList()
-                ))
-                .toList();
+        CursorPaginacao.validarLimite(limite);
+
+        List<Livro> livros = livroRepository.buscarAlugados(CursorPaginacao.decodificar(cursor), limite + 1);
+
+        return new LivroPaginaResponse(
+                paraLivroResponses(CursorPaginacao.pagina(livros, limite)),
+                CursorPaginacao.proximoCursor(livros, limite, Livro::getId)
+        );
     }
 
     public List<LivroResponse> listarLivrosAlugadosPorLocatario(Long locatarioId) {
 
-        Locatario locatario = locatarioRepository.findById(locatarioId)
-                .orElseThrow(() ->
-                        new RuntimeException("Locatário com id " + locatarioId + " não encontrado!")
-                );
+        if (locatarioRepository.findById(locatarioId).isEmpty()) {
+            throw new RecursoNaoEncontradoException("Locatário com id " + locatarioId + " não encontrado!");
+        }
 
-        return locatario.getAlugueis()
-                .stream()
-                .flatMap(aluguel -> aluguel.getLivros().stream())
-                .distinct()
-                .map(livro -> new LivroResponse(
-                        livro.getId(),
-                        livro.getNome(),
-                        livro.getIsbn(),
-                        livro.getDataDePublicacao().toString(),
-                        livro.getAutores()
-                                .stream()
-                                .map(Autor::getId)
-                                .toList()
-                ))
-                .toList();
+        return paraLivroResponses(livroRepository.buscarAlugadosPorLocatario(locatarioId));
     }
 
+    @Transactional
     public void deletarAluguel(Long aluguelId) {
 
         Aluguel aluguel = aluguelRepository.findById(aluguelId)
                 .orElseThrow(() ->
-                        new RuntimeException("Aluguel com id " + aluguelId + " não encontrado!")
+                        new RecursoNaoEncontradoException("Aluguel com id " + aluguelId + " não encontrado!")
                 );
 
+        Set<Long> livrosIds = idsDosLivros(aluguel.getLivros());
+
         aluguelRepository.delete(aluguel);
+
+        eventPublisher.publishEvent(new AluguelAlteradoEvento(aluguelId, livrosIds));
     }
 
+    @Transactional
     public AluguelResponse atualizarAluguel(Long aluguelId, AluguelUpdateRequest aluguelUpdate){
 
         Aluguel aluguel = aluguelRepository.findById(aluguelId)
                 .orElseThrow(() ->
-                        new RuntimeException("Aluguel com id " + aluguelId + " não encontrado!")
+                        new RecursoNaoEncontradoException("Aluguel com id " + aluguelId + " não encontrado!")
                 );
 
+        Set<Long> livrosAfetados = new HashSet<>(idsDosLivros(aluguel.getLivros()));
+
         if(aluguelUpdate.locatarioId() != null){
            Locatario novoLocatario = locatarioRepository.findById(aluguelUpdate.locatarioId())
                    .orElseThrow(() ->
-                           new RuntimeException("Locatario com id " + aluguelUpdate.locatarioId() + " não encontrado!")
+                           new RecursoNaoEncontradoException("Locatario com id " + aluguelUpdate.locatarioId() + " não encontrado!")
                    );
 
             aluguel.setLocatario(novoLocatario);
@@ -172,22 +205,28 @@ public class AluguelService {
             List<Livro> livros = livroRepository.findAllById(aluguelUpdate.livrosIds());
 
             if (aluguelUpdate.livrosIds().isEmpty()) {
-                throw new RuntimeException("O aluguel deve possuir ao menos um livro!");
+                throw new ValidacaoException("O aluguel deve possuir ao menos um livro!");
             }
 
+            travasPorLivro.travarAteFimDaTransacao(aluguelUpdate.livrosIds());
+
             if (livros.size() != aluguelUpdate.livrosIds().size()) {
-                throw new RuntimeException("Um ou mais livros não foram encontrados!");
+                throw new RecursoNaoEncontradoException("Um ou mais livros não foram encontrados!");
             }
 
             if (aluguelRepository.existsByLivrosIdIn(aluguelUpdate.livrosIds())) {
-                throw new RuntimeException("Um ou mais livros estão alugados!");
+                throw new LivroIndisponivelException("Um ou mais livros estão alugados!");
             }
 
-            aluguel.setLivros(livros);
+            aluguel.getLivros().retainAll(livros);
+            aluguel.getLivros().addAll(livros);
+            livrosAfetados.addAll(idsDosLivros(livros));
 
         }
 
-        Aluguel aluguelAtualizado = aluguelRepository.save(aluguel);
+        Aluguel aluguelAtualizado = salvarReservandoLivros(aluguel);
+
+        eventPublisher.publishEvent(new AluguelAlteradoEvento(aluguelId, livrosAfetados));
 
         return new AluguelResponse(
                 aluguelAtualizado.getId(),
@@ -202,7 +241,43 @@ public class AluguelService {
 
     }
 
+    private static Set<Long> idsDosLivros(Collection<Livro> livros) {
+        return livros.stream()
+                .map(Livro::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private Aluguel salvarReservandoLivros(Aluguel aluguel) {
+        try {
+            return aluguelRepository.saveAndFlush(aluguel);
+        } catch (DataIntegrityViolationException e) {
+            throw new LivroIndisponivelException("Um ou mais livros estão alugados!");
+        }
+    }
+
+    private List<LivroResponse> paraLivroResponses(List<Livro> livros) {
 
+        if (livros.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Long>> autoresIdsPorLivro = ParDeIds.agrupar(
+                livroRepository.buscarAutoresIdsPorLivros(
+                        livros.stream()
+                                .map(Livro::getId)
+                                .toList()
+                )
+        );
 
+        return livros.stream()
+                .map(livro -> new LivroResponse(
+                        livro.getId(),
+                        livro.getNome(),
+                        livro.getIsbn(),
+                        livro.getDataDePublicacao().toString(),
+                        autoresIdsPorLivro.getOrDefault(livro.getId(), List.of())
+                ))
+                .toList();
+    }
 
 }
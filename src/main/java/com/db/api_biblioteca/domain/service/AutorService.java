@@ -2,27 +2,44 @@ package com.db.api_biblioteca.domain.service;
 
 import com.db.api_biblioteca.domain.dto.AutorRequest;
 import com.db.api_biblioteca.domain.dto.AutorResponse;
+import com.db.api_biblioteca.domain.dto.AutorSugestaoResponse;
 import com.db.api_biblioteca.domain.dto.AutorUpdateRequest;
 import com.db.api_biblioteca.domain.entity.Autor;
 import com.db.api_biblioteca.domain.entity.Livro;
+import com.db.api_biblioteca.domain.event.AutorAlteradoEvento;
+import com.db.api_biblioteca.domain.event.AutorRemovidoEvento;
+import com.db.api_biblioteca.domain.exception.ConflitoException;
+import com.db.api_biblioteca.domain.exception.RecursoNaoEncontradoException;
+import com.db.api_biblioteca.domain.exception.ValidacaoException;
 import com.db.api_biblioteca.domain.repository.AutorRepository;
+import com.db.api_biblioteca.domain.repository.ParDeIds;
 import com.db.api_biblioteca.domain.validation.DataValidator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class AutorService {
 
     private final AutorRepository autorRepository;
+    private final IndiceNomesAutores indiceNomesAutores;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AutorService(AutorRepository autorRepository) {
+    public AutorService(AutorRepository autorRepository, IndiceNomesAutores indiceNomesAutores,
+                        ApplicationEventPublisher eventPublisher) {
         this.autorRepository = autorRepository;
+        this.indiceNomesAutores = indiceNomesAutores;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<AutorResponse> listarAutores() {
 
+        Map<Long, List<Long>> livrosIdsPorAutor = ParDeIds.agrupar(autorRepository.buscarTodosLivrosIds());
+
         return autorRepository.findAll()
                 .stream()
                 .map(autor -> new AutorResponse(
@@ -31,10 +48,7 @@ public class AutorService {
                         autor.getSexo(),
                         autor.getDataDeNascimento().toString(),
                         autor.getCpf(),
-                        autor.getLivros()
-                                .stream()
-                                .map(Livro::getId)
-                                .toList()
+                        livrosIdsPorAutor.getOrDefault(autor.getId(), List.of())
                 ))
                 .toList();
     }
@@ -42,7 +56,7 @@ public class AutorService {
     public AutorResponse buscarAutorPorNomeCompleto(String nome) {
         Autor autor = autorRepository.findByNomeIgnoreCase(nome)
                 .orElseThrow(() ->
-                        new RuntimeException("Autor " + nome + " não encontrado")
+                        new RecursoNaoEncontradoException("Autor " + nome + " não encontrado")
                 );
 
         return new AutorResponse(
@@ -51,33 +65,38 @@ public class AutorService {
                 autor.getSexo(),
                 autor.getDataDeNascimento().toString(),
                 autor.getCpf(),
-                autor.getLivros()
-                        .stream()
-                        .map(Livro::getId)
-                        .toList()
+                autorRepository.buscarLivrosIdsPorAutor(autor.getId())
         );
     }
 
-    public AutorResponse salvarAutor(AutorRequest autorRequest) {
+    public List<AutorSugestaoResponse> sugerirAutores(String prefixo, int limite) {
 
-        if (autorRepository.existsByCpf(autorRequest.cpf())) {
-            throw new IllegalArgumentException("CPF já cadastrado!");
+        if (prefixo == null || prefixo.isBlank()) {
+            throw new ValidacaoException("Prefixo é obrigatório!");
         }
 
-        if (!DataValidator.dataNascimentoValida(autorRequest.dataDeNascimento())){
-            throw new IllegalArgumentException("Data de nascimento no formato inválido ou no futuro! Favor fornecer data no formato aaaa-mm-dd!");
+        CursorPaginacao.validarLimite(limite);
+
+        return indiceNomesAutores.buscarPorPrefixo(prefixo, limite);
+    }
+
+    @Transactional
+    public AutorResponse salvarAutor(AutorRequest autorRequest) {
+
+        LocalDate dataDeNascimento = DataValidator.converterDataNascimento(autorRequest.dataDeNascimento());
+
+        if (dataDeNascimento == null){
+            throw new ValidacaoException("Data de nascimento no formato inválido ou no futuro! Favor fornecer data no formato aaaa-mm-dd!");
 
         }
 
-        if (autorRequest.sexo() != null){
-            if(!DataValidator.sexoValido(autorRequest.sexo())){
-                throw new IllegalArgumentException("Sexo inválido. Valores permitidos: Masculino, Feminino ou Outro!");
-            }
+        if (autorRepository.existsByCpf(autorRequest.cpf())) {
+            throw new ConflitoException("CPF já cadastrado!");
         }
 
         Autor autor = new Autor(
                 autorRequest.nome(),
-                LocalDate.parse(autorRequest.dataDeNascimento()),
+                dataDeNascimento,
                 autorRequest.cpf()
         );
 
@@ -85,6 +104,8 @@ public class AutorService {
 
         Autor autorSalvo = autorRepository.save(autor);
 
+        eventPublisher.publishEvent(new AutorAlteradoEvento(autorSalvo.getId(), autorSalvo.getNome()));
+
         return new AutorResponse(
                 autor.getId(),
                 autorSalvo.getNome(),
@@ -98,70 +119,77 @@ public class AutorService {
         );
     }
 
+    @Transactional
     public AutorResponse atualizarAutor(Long id, AutorUpdateRequest autorUpdate) {
 
+        if (autorUpdate.nome() != null && autorUpdate.nome().isBlank()) {
+            throw new ValidacaoException("Nome não pode ser vazio!");
+        }
+
+        LocalDate dataDeNascimento = null;
+
+        if (autorUpdate.dataDeNascimento() != null) {
+            dataDeNascimento = DataValidator.converterDataNascimento(autorUpdate.dataDeNascimento());
+
+            if (dataDeNascimento == null){
+                throw new ValidacaoException("Data de nascimento no formato invalido ou no futuro!");
+
+            }
+        }
+
+        if (autorUpdate.cpf() != null && autorRepository.existsByCpf(autorUpdate.cpf())) {
+            throw new ConflitoException("CPF já cadastrado!");
+        }
 
         Autor autor = autorRepository.findById(id)
                 .orElseThrow(() ->
-                        new RuntimeException("Autor com Id " + id + " não encontrado!"));
+                        new RecursoNaoEncontradoException("Autor com Id " + id + " não encontrado!"));
+
+        List<Long> livrosIds = autorRepository.buscarLivrosIdsPorAutor(id);
 
         if (autorUpdate.nome() != null) {
-            if(autorUpdate.nome().isBlank()){
-                throw new IllegalArgumentException("Nome não pode ser vazio!");
-            }
             autor.setNome(autorUpdate.nome());
-
         }
 
         if (autorUpdate.sexo() != null){
-            if(!DataValidator.sexoValido(autorUpdate.sexo())){
-                throw new IllegalArgumentException("Sexo inválido. Valores permitidos: Masculino, Feminino ou Outro!");
-            }
             autor.setSexo(autorUpdate.sexo());
         }
 
-        if (autorUpdate.dataDeNascimento() != null) {
-            if (!DataValidator.dataNascimentoValida(autorUpdate.dataDeNascimento())){
-                throw new IllegalArgumentException("Data de nascimento no formato invalido ou no futuro!");
-
-            }
-            autor.setDataDeNascimento(LocalDate.parse(autorUpdate.dataDeNascimento()));
+        if (dataDeNascimento != null) {
+            autor.setDataDeNascimento(dataDeNascimento);
         }
 
         if (autorUpdate.cpf() != null) {
-            if (autorRepository.existsByCpf(autorUpdate.cpf())) {
-                throw new IllegalArgumentException("CPF já cadastrado!");
-            }
             autor.setCPF(autorUpdate.cpf());
         }
 
-        Autor autorAtualizado = autorRepository.save(autor);
+        eventPublisher.publishEvent(new AutorAlteradoEvento(id, autor.getNome()));
 
         return new AutorResponse(
-                autor.getId(),
-                autorAtualizado.getNome(),
-                autorAtualizado.getSexo(),
-                autorAtualizado.getDataDeNascimento().toString(),
-                autorAtualizado.getCpf(),
-                autor.getLivros()
-                        .stream()
-                        .map(Livro::getId)
-                        .toList()
+                id,
+                autor.getNome(),
+                autor.getSexo(),
+                autor.getDataDeNascimento().toString(),
+                autor.getCpf(),
+                livrosIds
         );
     }
 
+    @Transactional
     public void deletarAutor(Long id) {
 
         Autor autor = autorRepository.findById(id)
                 .orElseThrow(() ->
-                        new RuntimeException("Autor com Id " + id + " não encontrado!"));
+                        new RecursoNaoEncontradoException("Autor com Id " + id + " não encontrado!"));
 
-        if (!autor.getLivros().isEmpty()) {
-            throw new RuntimeException(
+        if (autorRepository.existsByIdAndLivrosIsNotEmpty(id)) {
+            throw new ConflitoException(
                     "Não é possível excluir um autor que tenha livros associados!"
             );
         }
 
         autorRepository.delete(autor);
+
+        eventPublisher.publishEvent(new AutorRemovidoEvento(id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.exception.ValidacaoException;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public final class CamposParciais {
+
+    static final String ID = "id";
+
+    private CamposParciais() {
+    }
+
+    public static Set<String> interpretar(String fields, List<String> permitidos) {
+
+        Set<String> pedidos = Arrays.stream(fields.split(","))
+                .map(String::strip)
+                .filter(campo -> !campo.isEmpty())
+                .collect(Collectors.toSet());
+
+        if (pedidos.isEmpty()) {
+            throw new ValidacaoException("Informe ao menos um campo em fields!");
+        }
+
+        for (String campo : pedidos) {
+            if (!permitidos.contains(campo)) {
+                throw new ValidacaoException(
+                        "Campo " + campo + " inválido! Campos permitidos: " + String.join(", ", permitidos) + "."
+                );
+            }
+        }
+
+        Set<String> campos = new LinkedHashSet<>();
+        campos.add(ID);
+
+        permitidos.stream()
+                .filter(pedidos::contains)
+                .forEach(campos::add);
+
+        return campos;
+    }
+}
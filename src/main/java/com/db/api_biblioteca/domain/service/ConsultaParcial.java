@@ -0,0 +1,105 @@
+package com.db.api_biblioteca.domain.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Component;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+public class ConsultaParcial {
+
+    private final EntityManager entityManager;
+
+    public ConsultaParcial(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public List<Map<String, Object>> listar(Class<?> entidade, Map<String, String> colunas, Set<String> campos,
+                                            long ultimoId, int limite) {
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> consulta = builder.createTupleQuery();
+        Root<?> raiz = consulta.from(entidade);
+
+        consulta.multiselect(selecoes(raiz, colunas, campos))
+                .where(builder.greaterThan(raiz.get(CamposParciais.ID), ultimoId))
+                .orderBy(builder.asc(raiz.get(CamposParciais.ID)));
+
+        return entityManager.createQuery(consulta)
+                .setMaxResults(limite)
+                .getResultStream()
+                .map(ConsultaParcial::paraMapa)
+                .toList();
+    }
+
+    public List<Map<String, Object>> listarTodos(Class<?> entidade, Map<String, String> colunas, Set<String> campos) {
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> consulta = builder.createTupleQuery();
+        Root<?> raiz = consulta.from(entidade);
+
+        consulta.multiselect(selecoes(raiz, colunas, campos))
+                .orderBy(builder.asc(raiz.get(CamposParciais.ID)));
+
+        return entityManager.createQuery(consulta)
+                .getResultStream()
+                .map(ConsultaParcial::paraMapa)
+                .toList();
+    }
+
+    public Optional<Map<String, Object>> buscarPorId(Class<?> entidade, Map<String, String> colunas, Set<String> campos,
+                                                     Long id) {
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> consulta = builder.createTupleQuery();
+        Root<?> raiz = consulta.from(entidade);
+
+        consulta.multiselect(selecoes(raiz, colunas, campos))
+                .where(builder.equal(raiz.get(CamposParciais.ID), id));
+
+        return entityManager.createQuery(consulta)
+                .getResultStream()
+                .findFirst()
+                .map(ConsultaParcial::paraMapa);
+    }
+
+    private static List<Selection<?>> selecoes(Root<?> raiz, Map<String, String> colunas, Set<String> campos) {
+
+        List<Selection<?>> selecoes = new ArrayList<>();
+        selecoes.add(raiz.get(CamposParciais.ID).alias(CamposParciais.ID));
+
+        for (String campo : campos) {
+            String coluna = colunas.get(campo);
+
+            if (coluna != null) {
+                selecoes.add(raiz.get(coluna).alias(campo));
+            }
+        }
+
+        return selecoes;
+    }
+
+    private static Map<String, Object> paraMapa(Tuple tupla) {
+
+        Map<String, Object> mapa = new LinkedHashMap<>();
+
+        for (TupleElement<?> elemento : tupla.getElements()) {
+            Object valor = tupla.get(elemento);
+            mapa.put(elemento.getAlias(), valor instanceof TemporalAccessor ? valor.toString() : valor);
+        }
+
+        return mapa;
+    }
+}
@@ -0,0 +1,48 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.exception.ValidacaoException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+final class CursorPaginacao {
+
+    static final int LIMITE_MAXIMO = 100;
+
+    private CursorPaginacao() {
+    }
+
+    static String codificar(Long ultimoId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(ultimoId.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static long decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new ValidacaoException("Cursor de paginação inválido!");
+        }
+    }
+
+    static <T> List<T> pagina(List<T> resultado, int limite) {
+        return resultado.size() > limite ? resultado.subList(0, limite) : resultado;
+    }
+
+    static <T> String proximoCursor(List<T> resultado, int limite, Function<T, Long> id) {
+        return resultado.size() > limite ? codificar(id.apply(resultado.get(limite - 1))) : null;
+    }
+
+    static void validarLimite(int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new ValidacaoException("Limite deve estar entre 1 e " + LIMITE_MAXIMO + "!");
+        }
+    }
+}
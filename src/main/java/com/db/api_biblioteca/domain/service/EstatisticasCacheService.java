@@ -0,0 +1,48 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.dto.EstatisticasCacheResponse;
+import com.db.api_biblioteca.domain.dto.RegiaoCacheResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@Profile("estatisticas")
+public class EstatisticasCacheService {
+
+    private final Statistics estatisticas;
+
+    public EstatisticasCacheService(EntityManagerFactory entityManagerFactory) {
+        this.estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public EstatisticasCacheResponse buscarEstatisticas() {
+
+        List<RegiaoCacheResponse> regioes = Arrays.stream(estatisticas.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(regiao -> {
+                    CacheRegionStatistics regiaoEstatisticas = estatisticas.getCacheRegionStatistics(regiao);
+
+                    return new RegiaoCacheResponse(
+                            regiao,
+                            regiaoEstatisticas.getHitCount(),
+                            regiaoEstatisticas.getMissCount(),
+                            regiaoEstatisticas.getPutCount()
+                    );
+                })
+                .toList();
+
+        return new EstatisticasCacheResponse(
+                estatisticas.getSecondLevelCacheHitCount(),
+                estatisticas.getSecondLevelCacheMissCount(),
+                estatisticas.getSecondLevelCachePutCount(),
+                regioes
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package com.db.api_biblioteca.domain.service;
+
+import java.util.BitSet;
+
+final class FiltroBloom {
+
+    private static final int TAMANHO_MINIMO = 64;
+
+    private final BitSet bits;
+    private final int tamanho;
+    private final int funcoes;
+
+    FiltroBloom(long elementosEsperados, double taxaDeFalsosPositivos) {
+        long elementos = Math.max(1, elementosEsperados);
+        double ln2 = Math.log(2);
+        long tamanhoIdeal = (long) Math.ceil(-elementos * Math.log(taxaDeFalsosPositivos) / (ln2 * ln2));
+
+        this.tamanho = (int) Math.min(Integer.MAX_VALUE - 1L, Math.max(TAMANHO_MINIMO, tamanhoIdeal));
+        this.funcoes = Math.max(1, (int) Math.round((double) tamanho / elementos * ln2));
+        this.bits = new BitSet(tamanho);
+    }
+
+    void adicionar(String valor) {
+        int hash1 = misturar(valor.hashCode());
+        int hash2 = misturar(hash1) | 1;
+
+        for (int i = 0; i < funcoes; i++) {
+            bits.set(Math.floorMod(hash1 + i * hash2, tamanho));
+        }
+    }
+
+    boolean podeConter(String valor) {
+        int hash1 = misturar(valor.hashCode());
+        int hash2 = misturar(hash1) | 1;
+
+        for (int i = 0; i < funcoes; i++) {
+            if (!bits.get(Math.floorMod(hash1 + i * hash2, tamanho))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int misturar(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,138 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.event.LivroAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LivroRemovidoEvento;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+@Component
+public class FragmentosJsonLivros {
+
+    private final int capacidade;
+    private final ByteBuffer memoria;
+    private final Map<Long, Fragmento> fragmentos = new ConcurrentHashMap<>();
+    private final StampedLock trava = new StampedLock();
+
+    private long cabeca;
+    private volatile long geracao;
+
+    @Autowired
+    public FragmentosJsonLivros(@Value("${biblioteca.cache.livro.fragmentos-json:64MB}") DataSize capacidade) {
+        this(Math.toIntExact(capacidade.toBytes()));
+    }
+
+    FragmentosJsonLivros(int capacidade) {
+        this.capacidade = capacidade;
+        this.memoria = ByteBuffer.allocateDirect(capacidade);
+    }
+
+    public long geracao() {
+        return geracao;
+    }
+
+    public byte[] buscar(Long livroId) {
+
+        Fragmento fragmento = fragmentos.get(livroId);
+
+        if (fragmento == null) {
+            return null;
+        }
+
+        byte[] json = new byte[fragmento.tamanho()];
+        long carimbo = trava.tryOptimisticRead();
+
+        if (carimbo != 0L) {
+            boolean valido = copiar(fragmento, json);
+
+            if (trava.validate(carimbo)) {
+                return valido ? json : descartar(livroId, fragmento);
+            }
+        }
+
+        carimbo = trava.readLock();
+
+        try {
+            return copiar(fragmento, json) ? json : descartar(livroId, fragmento);
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    public void gravar(Long livroId, long geracaoLida, byte[] json) {
+
+        if (json.length > capacidade) {
+            return;
+        }
+
+        long carimbo = trava.writeLock();
+
+        try {
+            if (geracao != geracaoLida) {
+                return;
+            }
+
+            long inicio = cabeca;
+            int posicao = (int) (inicio % capacidade);
+
+            if (posicao + json.length > capacidade) {
+                inicio += capacidade - posicao;
+                posicao = 0;
+            }
+
+            memoria.put(posicao, json);
+            cabeca = inicio + json.length;
+            fragmentos.put(livroId, new Fragmento(inicio, json.length));
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    public void invalidar(Long livroId) {
+
+        long carimbo = trava.writeLock();
+
+        try {
+            geracao++;
+            fragmentos.remove(livroId);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void livroAlterado(LivroAlteradoEvento evento) {
+        invalidar(evento.livroId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void livroRemovido(LivroRemovidoEvento evento) {
+        invalidar(evento.livroId());
+    }
+
+    private boolean copiar(Fragmento fragmento, byte[] destino) {
+
+        if (fragmento.inicio() < cabeca - capacidade) {
+            return false;
+        }
+
+        memoria.get((int) (fragmento.inicio() % capacidade), destino);
+
+        return true;
+    }
+
+    private byte[] descartar(Long livroId, Fragmento fragmento) {
+        fragmentos.remove(livroId, fragmento);
+        return null;
+    }
+
+    private record Fragmento(long inicio, int tamanho) {
+    }
+}
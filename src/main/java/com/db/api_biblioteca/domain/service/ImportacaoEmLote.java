@@ -0,0 +1,187 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.dto.ErroImportacaoResponse;
+import com.db.api_biblioteca.domain.dto.ImportacaoResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+final class ImportacaoEmLote<T> {
+
+    static final int TAMANHO_LOTE = 1000;
+
+    private static final String MENSAGEM_CONFLITO = "Registro conflita com dados gravados durante a importação!";
+
+    private final Validator validator;
+    private final List<ErroImportacaoResponse> erros = new ArrayList<>();
+    private long linhasProcessadas;
+    private long registrosImportados;
+
+    ImportacaoEmLote(Validator validator) {
+        this.validator = validator;
+    }
+
+    ImportacaoResponse importar(InputStream entrada, boolean possuiCabecalho, ConversorLinha<T> conversor,
+                                Consumer<List<Linha<T>>> gravarLote)
+            throws IOException {
+
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        List<Linha<T>> lote = new ArrayList<>(TAMANHO_LOTE);
+        long numeroLinha = 0;
+        String linha;
+
+        if (possuiCabecalho && leitor.readLine() != null) {
+            numeroLinha++;
+        }
+
+        while ((linha = leitor.readLine()) != null) {
+            numeroLinha++;
+
+            if (linha.isBlank()) {
+                continue;
+            }
+
+            linhasProcessadas++;
+
+            T request;
+            try {
+                request = conversor.converter(linha);
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                registrarErro(numeroLinha, "Linha mal formatada!");
+                continue;
+            }
+
+            String erro = validar(request);
+
+            if (erro != null) {
+                registrarErro(numeroLinha, erro);
+                continue;
+            }
+
+            lote.add(new Linha<>(numeroLinha, request));
+
+            if (lote.size() == TAMANHO_LOTE) {
+                gravarLote.accept(lote);
+                lote.clear();
+            }
+        }
+
+        if (!lote.isEmpty()) {
+            gravarLote.accept(lote);
+        }
+
+        erros.sort(Comparator.comparingLong(ErroImportacaoResponse::linha));
+
+        return new ImportacaoResponse(linhasProcessadas, registrosImportados, erros);
+    }
+
+    // Um conflito no banco desfaz o lote inteiro; cada linha é regravada isoladamente para que apenas as que
+    // realmente conflitam sejam relatadas e o resultado corresponda ao que ficou gravado.
+    void gravar(List<Linha<T>> lote, GravacaoLote<T> gravacao) {
+
+        List<ErroImportacaoResponse> errosDoLote;
+
+        try {
+            errosDoLote = gravacao.gravar(lote);
+        } catch (DataIntegrityViolationException e) {
+            if (lote.size() == 1) {
+                registrarErro(lote.get(0).numero(), MENSAGEM_CONFLITO);
+            } else {
+                lote.forEach(linha -> gravar(List.of(linha), gravacao));
+            }
+            return;
+        }
+
+        erros.addAll(errosDoLote);
+        registrosImportados += lote.size() - errosDoLote.size();
+    }
+
+    void registrarErro(long linha, String mensagem) {
+        erros.add(new ErroImportacaoResponse(linha, mensagem));
+    }
+
+    static List<String> separarCampos(String linha, int quantidade) {
+
+        List<String> campos = new ArrayList<>(quantidade);
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+
+        for (int i = 0; i < linha.length(); i++) {
+            char caractere = linha.charAt(i);
+
+            if (entreAspas) {
+                if (caractere != '"') {
+                    campo.append(caractere);
+                } else if (i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else {
+                    entreAspas = false;
+                }
+            } else if (caractere == '"') {
+                entreAspas = true;
+            } else if (caractere == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(caractere);
+            }
+        }
+
+        if (entreAspas) {
+            throw new IllegalArgumentException("Aspas não fechadas!");
+        }
+
+        campos.add(campo.toString());
+
+        if (campos.size() != quantidade) {
+            throw new IllegalArgumentException("Quantidade de colunas inválida!");
+        }
+
+        return campos;
+    }
+
+    private String validar(T request) {
+
+        if (request == null) {
+            return "Linha mal formatada!";
+        }
+
+        Set<ConstraintViolation<T>> violacoes = validator.validate(request);
+
+        if (!violacoes.isEmpty()) {
+            return violacoes.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" "));
+        }
+
+        return null;
+    }
+
+    @FunctionalInterface
+    interface ConversorLinha<T> {
+        T converter(String linha) throws JsonProcessingException;
+    }
+
+    @FunctionalInterface
+    interface GravacaoLote<T> {
+        List<ErroImportacaoResponse> gravar(List<Linha<T>> lote);
+    }
+
+    record Linha<T>(long numero, T request) {
+    }
+}
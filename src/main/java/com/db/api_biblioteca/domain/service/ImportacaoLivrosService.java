@@ -0,0 +1,145 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.dto.ErroImportacaoResponse;
+import com.db.api_biblioteca.domain.dto.ImportacaoResponse;
+import com.db.api_biblioteca.domain.dto.LivroRequest;
+import com.db.api_biblioteca.domain.entity.Autor;
+import com.db.api_biblioteca.domain.entity.Livro;
+import com.db.api_biblioteca.domain.event.LivroAlteradoEvento;
+import com.db.api_biblioteca.domain.repository.AutorRepository;
+import com.db.api_biblioteca.domain.repository.LivroRepository;
+import com.db.api_biblioteca.domain.service.ImportacaoEmLote.Linha;
+import com.db.api_biblioteca.domain.validation.DataValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class ImportacaoLivrosService {
+
+    private static final String SEPARADOR_AUTORES = ";";
+
+    private final LivroRepository livroRepository;
+    private final AutorRepository autorRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ImportacaoLivrosService(LivroRepository livroRepository, AutorRepository autorRepository, ObjectMapper objectMapper,
+                                   Validator validator, EntityManager entityManager, TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.livroRepository = livroRepository;
+        this.autorRepository = autorRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public ImportacaoResponse importarCsv(InputStream entrada) throws IOException {
+        ImportacaoEmLote<LivroRequest> importacao = new ImportacaoEmLote<>(validator);
+
+        return importacao.importar(entrada, true, ImportacaoLivrosService::lerLinhaCsv,
+                lote -> gravarLote(lote, importacao));
+    }
+
+    public ImportacaoResponse importarNdjson(InputStream entrada) throws IOException {
+        ImportacaoEmLote<LivroRequest> importacao = new ImportacaoEmLote<>(validator);
+
+        return importacao.importar(entrada, false, linha -> objectMapper.readValue(linha, LivroRequest.class),
+                lote -> gravarLote(lote, importacao));
+    }
+
+    private void gravarLote(List<Linha<LivroRequest>> lote, ImportacaoEmLote<LivroRequest> importacao) {
+        importacao.gravar(lote, linhas -> transactionTemplate.execute(status -> gravarLivros(linhas)));
+    }
+
+    private List<ErroImportacaoResponse> gravarLivros(List<Linha<LivroRequest>> lote) {
+
+        Set<String> isbnsCadastrados = new HashSet<>(livroRepository.buscarIsbnsExistentes(
+                lote.stream()
+                        .map(linha -> linha.request().isbn())
+                        .collect(Collectors.toSet())
+        ));
+
+        Set<Long> autoresExistentes = new HashSet<>(autorRepository.buscarIdsExistentes(
+                lote.stream()
+                        .flatMap(linha -> linha.request().autoresIds().stream())
+                        .collect(Collectors.toSet())
+        ));
+
+        List<ErroImportacaoResponse> erros = new ArrayList<>();
+        List<Livro> livros = new ArrayList<>(lote.size());
+
+        for (Linha<LivroRequest> linha : lote) {
+            LivroRequest request = linha.request();
+
+            if (!autoresExistentes.containsAll(request.autoresIds())) {
+                erros.add(new ErroImportacaoResponse(linha.numero(), "Um ou mais autores não foram encontrados!"));
+                continue;
+            }
+
+            if (!isbnsCadastrados.add(request.isbn())) {
+                erros.add(new ErroImportacaoResponse(linha.numero(), "ISBN já cadastrado!"));
+                continue;
+            }
+
+            Livro livro = new Livro(
+                    request.nome(),
+                    request.isbn(),
+                    DataValidator.converterData(request.dataDePublicacao())
+            );
+
+            request.autoresIds()
+                    .stream()
+                    .distinct()
+                    .forEach(autorId -> livro.getAutores().add(entityManager.getReference(Autor.class, autorId)));
+
+            livros.add(livro);
+        }
+
+        livroRepository.saveAllAndFlush(livros);
+
+        livros.forEach(livro -> eventPublisher.publishEvent(new LivroAlteradoEvento(
+                livro.getId(),
+                livro.getNome(),
+                livro.getAutores()
+                        .stream()
+                        .map(Autor::getId)
+                        .collect(Collectors.toSet())
+        )));
+
+        entityManager.clear();
+
+        return erros;
+    }
+
+    private static LivroRequest lerLinhaCsv(String linha) {
+
+        List<String> campos = ImportacaoEmLote.separarCampos(linha, 4);
+
+        List<Long> autoresIds = campos.get(3).isBlank()
+                ? List.of()
+                : Arrays.stream(campos.get(3).split(SEPARADOR_AUTORES))
+                        .map(String::trim)
+                        .map(Long::valueOf)
+                        .toList();
+
+        return new LivroRequest(campos.get(0), campos.get(1), campos.get(2), autoresIds);
+    }
+}
@@ -0,0 +1,186 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.dto.ErroImportacaoResponse;
+import com.db.api_biblioteca.domain.dto.ImportacaoResponse;
+import com.db.api_biblioteca.domain.dto.LocatarioRequest;
+import com.db.api_biblioteca.domain.entity.Locatario;
+import com.db.api_biblioteca.domain.event.LocatarioAlteradoEvento;
+import com.db.api_biblioteca.domain.repository.LocatarioRepository;
+import com.db.api_biblioteca.domain.service.ImportacaoEmLote.Linha;
+import com.db.api_biblioteca.domain.validation.DataValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+public class ImportacaoLocatariosService {
+
+    private static final double TAXA_FALSOS_POSITIVOS = 0.01;
+
+    private final LocatarioRepository locatarioRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ImportacaoLocatariosService(LocatarioRepository locatarioRepository, ObjectMapper objectMapper, Validator validator,
+                                       EntityManager entityManager, TransactionTemplate transactionTemplate,
+                                       ApplicationEventPublisher eventPublisher) {
+        this.locatarioRepository = locatarioRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public ImportacaoResponse importarCsv(InputStream entrada) throws IOException {
+        ImportacaoEmLote<LocatarioRequest> importacao = new ImportacaoEmLote<>(validator);
+        ChavesCadastradas chaves = carregarChaves();
+
+        return importacao.importar(entrada, true, ImportacaoLocatariosService::lerLinhaCsv,
+                lote -> gravarLote(lote, chaves, importacao));
+    }
+
+    public ImportacaoResponse importarNdjson(InputStream entrada) throws IOException {
+        ImportacaoEmLote<LocatarioRequest> importacao = new ImportacaoEmLote<>(validator);
+        ChavesCadastradas chaves = carregarChaves();
+
+        return importacao.importar(entrada, false, linha -> objectMapper.readValue(linha, LocatarioRequest.class),
+                lote -> gravarLote(lote, chaves, importacao));
+    }
+
+    private ChavesCadastradas carregarChaves() {
+
+        return transactionTemplate.execute(status -> {
+            long total = locatarioRepository.count();
+            FiltroBloom cpfs = new FiltroBloom(total, TAXA_FALSOS_POSITIVOS);
+            FiltroBloom emails = new FiltroBloom(total, TAXA_FALSOS_POSITIVOS);
+
+            try (Stream<String> todos = locatarioRepository.buscarTodosCpfs()) {
+                todos.forEach(cpfs::adicionar);
+            }
+
+            try (Stream<String> todos = locatarioRepository.buscarTodosEmails()) {
+                todos.forEach(emails::adicionar);
+            }
+
+            return new ChavesCadastradas(cpfs, emails, new HashSet<>(), new HashSet<>());
+        });
+    }
+
+    private void gravarLote(List<Linha<LocatarioRequest>> lote, ChavesCadastradas chaves,
+                            ImportacaoEmLote<LocatarioRequest> importacao) {
+        importacao.gravar(lote, linhas -> {
+            Set<String> cpfsDoLote = new HashSet<>();
+            Set<String> emailsDoLote = new HashSet<>();
+
+            List<ErroImportacaoResponse> erros = transactionTemplate.execute(status ->
+                    gravarLocatarios(linhas, chaves, cpfsDoLote, emailsDoLote));
+
+            // As chaves só passam a valer para o arquivo depois do commit, para que um lote desfeito possa ser regravado.
+            chaves.cpfsDoArquivo().addAll(cpfsDoLote);
+            chaves.emailsDoArquivo().addAll(emailsDoLote);
+
+            return erros;
+        });
+    }
+
+    private List<ErroImportacaoResponse> gravarLocatarios(List<Linha<LocatarioRequest>> lote, ChavesCadastradas chaves,
+                                                          Set<String> cpfsDoLote, Set<String> emailsDoLote) {
+
+        Set<String> cpfsCadastrados = buscarColisoes(
+                lote, LocatarioRequest::cpf, chaves.cpfs(), locatarioRepository::buscarCpfsExistentes);
+        Set<String> emailsCadastrados = buscarColisoes(
+                lote, LocatarioRequest::email, chaves.emails(), locatarioRepository::buscarEmailsExistentes);
+
+        List<ErroImportacaoResponse> erros = new ArrayList<>();
+        List<Locatario> locatarios = new ArrayList<>(lote.size());
+
+        for (Linha<LocatarioRequest> linha : lote) {
+            LocatarioRequest request = linha.request();
+
+            if (cpfsCadastrados.contains(request.cpf()) || chaves.cpfsDoArquivo().contains(request.cpf())
+                    || cpfsDoLote.contains(request.cpf())) {
+                erros.add(new ErroImportacaoResponse(linha.numero(), "CPF já cadastrado!"));
+                continue;
+            }
+
+            if (emailsCadastrados.contains(request.email()) || chaves.emailsDoArquivo().contains(request.email())
+                    || emailsDoLote.contains(request.email())) {
+                erros.add(new ErroImportacaoResponse(linha.numero(), "Email já cadastrado!"));
+                continue;
+            }
+
+            cpfsDoLote.add(request.cpf());
+            emailsDoLote.add(request.email());
+
+            Locatario locatario = new Locatario(
+                    request.nome(),
+                    request.telefone(),
+                    request.email(),
+                    DataValidator.converterData(request.dataDeNascimento()),
+                    request.cpf()
+            );
+
+            locatario.setSexo(request.sexo());
+            locatarios.add(locatario);
+        }
+
+        locatarioRepository.saveAllAndFlush(locatarios);
+
+        locatarios.forEach(locatario -> eventPublisher.publishEvent(new LocatarioAlteradoEvento(locatario.getId())));
+
+        entityManager.clear();
+
+        return erros;
+    }
+
+    private static Set<String> buscarColisoes(List<Linha<LocatarioRequest>> lote, Function<LocatarioRequest, String> chave,
+                                              FiltroBloom filtro, Function<Collection<String>, List<String>> consulta) {
+
+        List<String> provaveis = lote.stream()
+                .map(linha -> chave.apply(linha.request()))
+                .filter(filtro::podeConter)
+                .distinct()
+                .toList();
+
+        if (provaveis.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(consulta.apply(provaveis));
+    }
+
+    private static LocatarioRequest lerLinhaCsv(String linha) {
+
+        List<String> campos = ImportacaoEmLote.separarCampos(linha, 6);
+
+        return new LocatarioRequest(
+                campos.get(0),
+                campos.get(1).isBlank() ? null : campos.get(1),
+                campos.get(2),
+                campos.get(3),
+                campos.get(4),
+                campos.get(5)
+        );
+    }
+
+    private record ChavesCadastradas(FiltroBloom cpfs, FiltroBloom emails,
+                                     Set<String> cpfsDoArquivo, Set<String> emailsDoArquivo) {
+    }
+}
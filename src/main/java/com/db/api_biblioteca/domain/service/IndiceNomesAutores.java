@@ -0,0 +1,82 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.dto.AutorSugestaoResponse;
+import com.db.api_biblioteca.domain.event.AutorAlteradoEvento;
+import com.db.api_biblioteca.domain.event.AutorRemovidoEvento;
+import com.db.api_biblioteca.domain.repository.AutorRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Component
+public class IndiceNomesAutores {
+
+    private static final char SEPARADOR = '\u0000';
+
+    private final AutorRepository autorRepository;
+    private final NavigableMap<String, AutorSugestaoResponse> autoresPorChave = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> chavePorAutor = new ConcurrentHashMap<>();
+
+    public IndiceNomesAutores(AutorRepository autorRepository) {
+        this.autorRepository = autorRepository;
+    }
+
+    @PostConstruct
+    void carregar() {
+        autorRepository.buscarTodosNomes()
+                .forEach(autor -> indexar(autor.id(), autor.nome()));
+    }
+
+    public List<AutorSugestaoResponse> buscarPorPrefixo(String prefixo, int limite) {
+
+        String inicio = NormalizacaoTexto.normalizar(prefixo).stripLeading();
+
+        return autoresPorChave.subMap(inicio, true, inicio + Character.MAX_VALUE, true)
+                .values()
+                .stream()
+                .limit(limite)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void autorAlterado(AutorAlteradoEvento evento) {
+        indexar(evento.autorId(), evento.nome());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void autorRemovido(AutorRemovidoEvento evento) {
+        remover(evento.autorId());
+    }
+
+    synchronized void indexar(Long autorId, String nome) {
+
+        if (nome == null) {
+            remover(autorId);
+            return;
+        }
+
+        String chave = NormalizacaoTexto.normalizar(nome).strip() + SEPARADOR + "%019d".formatted(autorId);
+        String chaveAnterior = chavePorAutor.put(autorId, chave);
+
+        if (chaveAnterior != null && !chaveAnterior.equals(chave)) {
+            autoresPorChave.remove(chaveAnterior);
+        }
+
+        autoresPorChave.put(chave, new AutorSugestaoResponse(autorId, nome));
+    }
+
+    synchronized void remover(Long autorId) {
+
+        String chave = chavePorAutor.remove(autorId);
+
+        if (chave != null) {
+            autoresPorChave.remove(chave);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.event.LivroAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LivroRemovidoEvento;
+import com.db.api_biblioteca.domain.repository.LivroRepository;
+import com.db.api_biblioteca.domain.repository.TituloDeLivro;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+@Component
+public class IndiceTitulosLivros {
+
+    private static final int PESO_PALAVRA = 2;
+    private static final int PESO_PREFIXO = 1;
+
+    private final LivroRepository livroRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean buscaPorPrefixo;
+    private final int tamanhoMinimoPrefixo;
+
+    private final NavigableMap<String, Set<Long>> livrosPorPalavra = new ConcurrentSkipListMap<>();
+    private final Map<Long, List<String>> palavrasPorLivro = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IndiceTitulosLivros(
+            LivroRepository livroRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${biblioteca.busca.prefixos:true}") boolean buscaPorPrefixo,
+            @Value("${biblioteca.busca.tamanho-minimo-prefixo:3}") int tamanhoMinimoPrefixo
+    ) {
+        this.livroRepository = livroRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.buscaPorPrefixo = buscaPorPrefixo;
+        this.tamanhoMinimoPrefixo = tamanhoMinimoPrefixo;
+    }
+
+    @PostConstruct
+    void carregar() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TituloDeLivro> titulos = livroRepository.buscarTodosTitulos()) {
+                titulos.forEach(titulo -> indexar(titulo.id(), titulo.nome()));
+            }
+        });
+    }
+
+    public List<Long> buscar(String consulta) {
+
+        List<Map<Long, Integer>> pontuacoesPorPalavra = NormalizacaoTexto.palavras(consulta)
+                .stream()
+                .distinct()
+                .map(this::pontuarPalavra)
+                .sorted(Comparator.comparingInt(Map::size))
+                .toList();
+
+        if (pontuacoesPorPalavra.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> pontuacoes = new HashMap<>(pontuacoesPorPalavra.get(0));
+
+        for (Map<Long, Integer> pontuacoesDaPalavra : pontuacoesPorPalavra.subList(1, pontuacoesPorPalavra.size())) {
+            pontuacoes.keySet().retainAll(pontuacoesDaPalavra.keySet());
+            pontuacoes.replaceAll((livroId, pontuacao) -> pontuacao + pontuacoesDaPalavra.get(livroId));
+        }
+
+        return pontuacoes.entrySet()
+                .stream()
+                .sorted(Comparator.<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue).reversed()
+                        .thenComparingInt(entrada -> palavrasPorLivro.getOrDefault(entrada.getKey(), List.of()).size())
+                        .thenComparing(Map.Entry::getKey))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void livroAlterado(LivroAlteradoEvento evento) {
+        indexar(evento.livroId(), evento.nome());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void livroRemovido(LivroRemovidoEvento evento) {
+        remover(evento.livroId());
+    }
+
+    synchronized void indexar(Long livroId, String nome) {
+
+        remover(livroId);
+
+        if (nome == null) {
+            return;
+        }
+
+        List<String> palavras = NormalizacaoTexto.palavras(nome);
+
+        palavras.forEach(palavra -> livrosPorPalavra
+                .computeIfAbsent(palavra, chave -> ConcurrentHashMap.newKeySet())
+                .add(livroId));
+
+        palavrasPorLivro.put(livroId, palavras);
+    }
+
+    synchronized void remover(Long livroId) {
+
+        List<String> palavras = palavrasPorLivro.remove(livroId);
+
+        if (palavras == null) {
+            return;
+        }
+
+        palavras.forEach(palavra -> livrosPorPalavra.computeIfPresent(palavra, (chave, livros) -> {
+            livros.remove(livroId);
+            return livros.isEmpty() ? null : livros;
+        }));
+    }
+
+    private Map<Long, Integer> pontuarPalavra(String palavra) {
+
+        Map<Long, Integer> pontuacoes = new HashMap<>();
+
+        if (buscaPorPrefixo && palavra.length() >= tamanhoMinimoPrefixo) {
+            livrosPorPalavra.subMap(palavra, false, palavra + Character.MAX_VALUE, true)
+                    .values()
+                    .forEach(livros -> livros.forEach(livroId -> pontuacoes.put(livroId, PESO_PREFIXO)));
+        }
+
+        livrosPorPalavra.getOrDefault(palavra, Set.of())
+                .forEach(livroId -> pontuacoes.put(livroId, PESO_PALAVRA));
+
+        return pontuacoes;
+    }
+}
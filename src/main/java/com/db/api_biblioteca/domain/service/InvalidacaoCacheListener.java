@@ -0,0 +1,41 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.entity.Autor;
+import com.db.api_biblioteca.domain.entity.Livro;
+import com.db.api_biblioteca.domain.event.LivroAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LivroRemovidoEvento;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+
+@Component
+public class InvalidacaoCacheListener {
+
+    private static final String LIVROS_DO_AUTOR = Autor.class.getName() + ".livros";
+    private static final String AUTORES_DO_LIVRO = Livro.class.getName() + ".autores";
+
+    private final Cache cache;
+
+    public InvalidacaoCacheListener(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void livroAlterado(LivroAlteradoEvento evento) {
+        cache.evictCollectionData(AUTORES_DO_LIVRO, evento.livroId());
+        invalidarLivrosDosAutores(evento.autoresIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void livroRemovido(LivroRemovidoEvento evento) {
+        invalidarLivrosDosAutores(evento.autoresIds());
+    }
+
+    private void invalidarLivrosDosAutores(Collection<Long> autoresIds) {
+        autoresIds.forEach(autorId -> cache.evictCollectionData(LIVROS_DO_AUTOR, autorId));
+    }
+}
@@ -0,0 +1,83 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.dto.LivroResponse;
+import com.db.api_biblioteca.domain.event.AluguelAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LivroAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LivroRemovidoEvento;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class LivroResponseCache {
+
+    private final Cache<Long, Optional<LivroResponse>> cache;
+
+    @Autowired
+    public LivroResponseCache(
+            @Value("${biblioteca.cache.livro.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${biblioteca.cache.livro.ttl:10m}") Duration ttl,
+            @Value("${biblioteca.cache.livro.ttl-nao-encontrado:30s}") Duration ttlNaoEncontrado
+    ) {
+        this(tamanhoMaximo, ttl, ttlNaoEncontrado, Ticker.systemTicker());
+    }
+
+    LivroResponseCache(long tamanhoMaximo, Duration ttl, Duration ttlNaoEncontrado, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfter(new ExpiracaoPorResultado(ttl, ttlNaoEncontrado))
+                .ticker(ticker)
+                .build();
+    }
+
+    public Optional<LivroResponse> buscar(Long livroId, Function<Long, Optional<LivroResponse>> carregar) {
+        return cache.get(livroId, carregar);
+    }
+
+    public void invalidar(Long livroId) {
+        cache.invalidate(livroId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void livroAlterado(LivroAlteradoEvento evento) {
+        invalidar(evento.livroId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void livroRemovido(LivroRemovidoEvento evento) {
+        invalidar(evento.livroId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aluguelAlterado(AluguelAlteradoEvento evento) {
+        cache.invalidateAll(evento.livrosIds());
+    }
+
+    private record ExpiracaoPorResultado(Duration ttl, Duration ttlNaoEncontrado)
+            implements Expiry<Long, Optional<LivroResponse>> {
+
+        @Override
+        public long expireAfterCreate(Long livroId, Optional<LivroResponse> livro, long agora) {
+            return (livro.isPresent() ? ttl : ttlNaoEncontrado).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long livroId, Optional<LivroResponse> livro, long agora, long duracaoAtual) {
+            return expireAfterCreate(livroId, livro, agora);
+        }
+
+        @Override
+        public long expireAfterRead(Long livroId, Optional<LivroResponse> livro, long agora, long duracaoAtual) {
+            return duracaoAtual;
+        }
+    }
+}
@@ -1,80 +1,281 @@
 package com.db.api_biblioteca.domain.service;
 
+import com.db.api_biblioteca.domain.dto.LivroPaginaParcialResponse;
+import com.db.api_biblioteca.domain.dto.LivroPaginaResponse;
 import com.db.api_biblioteca.domain.dto.LivroRequest;
 import com.db.api_biblioteca.domain.dto.LivroResponse;
 import com.db.api_biblioteca.domain.dto.LivroPorAutorResponse;
 import com.db.api_biblioteca.domain.dto.LivroUpdateRequest;
 import com.db.api_biblioteca.domain.entity.Autor;
 import com.db.api_biblioteca.domain.entity.Livro;
+import com.db.api_biblioteca.domain.event.LivroAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LivroRemovidoEvento;
+import com.db.api_biblioteca.domain.exception.ConflitoException;
+import com.db.api_biblioteca.domain.exception.RecursoNaoEncontradoException;
+import com.db.api_biblioteca.domain.exception.ValidacaoException;
 import com.db.api_biblioteca.domain.repository.AluguelRepository;
 import com.db.api_biblioteca.domain.repository.AutorRepository;
 import com.db.api_biblioteca.domain.repository.LivroRepository;
+import com.db.api_biblioteca.domain.repository.ParDeIds;
 import com.db.api_biblioteca.domain.validation.DataValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class LivroService {
 
+    private static final int TAMANHO_LOTE_EXPORTACAO = 500;
+    private static final byte[] INICIO_PAGINA_JSON = "{\"livros\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FIM_LIVROS_JSON = "],\"proximoCursor\":".getBytes(StandardCharsets.UTF_8);
+
+    public static final List<String> CAMPOS = List.of("id", "nome", "isbd", "dataDePublicacao", "autoresIds");
+    private static final Map<String, String> COLUNAS = Map.of(
+            "nome", "nome",
+            "isbd", "isbn",
+            "dataDePublicacao", "dataDePublicacao"
+    );
+    private static final String AUTORES_IDS = "autoresIds";
+
     private final LivroRepository livroRepository;
     private final AutorRepository autorRepository;
     private final AluguelRepository aluguelRepository;
-
-    public LivroService(LivroRepository livroRepository, AutorRepository autorRepository, AluguelRepository aluguelRepository) {
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LivroResponseCache livroResponseCache;
+    private final IndiceTitulosLivros indiceTitulosLivros;
+    private final FragmentosJsonLivros fragmentosJsonLivros;
+    private final ConsultaParcial consultaParcial;
+
+    public LivroService(LivroRepository livroRepository, AutorRepository autorRepository, AluguelRepository aluguelRepository,
+                        ObjectMapper objectMapper, EntityManager entityManager, ApplicationEventPublisher eventPublisher,
+                        LivroResponseCache livroResponseCache, IndiceTitulosLivros indiceTitulosLivros,
+                        FragmentosJsonLivros fragmentosJsonLivros, ConsultaParcial consultaParcial) {
         this.livroRepository = livroRepository;
         this.autorRepository = autorRepository;
         this.aluguelRepository = aluguelRepository;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.livroResponseCache = livroResponseCache;
+        this.indiceTitulosLivros = indiceTitulosLivros;
+        this.fragmentosJsonLivros = fragmentosJsonLivros;
+        this.consultaParcial = consultaParcial;
+    }
 
+    public LivroPaginaResponse listarLivros(String cursor, int limite) {
+
+        CursorPaginacao.validarLimite(limite);
+
+        List<Livro> livros = livroRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPaginacao.decodificar(cursor),
+                Limit.of(limite + 1)
+        );
+
+        return new LivroPaginaResponse(
+                paraResponses(CursorPaginacao.pagina(livros, limite)),
+                CursorPaginacao.proximoCursor(livros, limite, Livro::getId)
+        );
     }
 
-    public List<LivroResponse> listarLivros() {
+    public LivroPaginaParcialResponse listarLivrosParciais(Set<String> campos, String cursor, int limite) {
+
+        CursorPaginacao.validarLimite(limite);
+
+        List<Map<String, Object>> livros = consultaParcial.listar(
+                Livro.class,
+                COLUNAS,
+                campos,
+                CursorPaginacao.decodificar(cursor),
+                limite + 1
+        );
+
+        List<Map<String, Object>> pagina = CursorPaginacao.pagina(livros, limite);
+
+        if (campos.contains(AUTORES_IDS)) {
+            adicionarAutoresIds(pagina);
+        }
+
+        return new LivroPaginaParcialResponse(
+                pagina,
+                CursorPaginacao.proximoCursor(livros, limite, livro -> (Long) livro.get(CamposParciais.ID))
+        );
+    }
+
+    public Map<String, Object> buscarLivroParcialPorId(Long livroId, Set<String> campos) {
+
+        Map<String, Object> livro = consultaParcial.buscarPorId(Livro.class, COLUNAS, campos, livroId)
+                .orElseThrow(() ->
+                        new RecursoNaoEncontradoException("Livro com Id " + livroId + " não encontrado!")
+                );
+
+        if (campos.contains(AUTORES_IDS)) {
+            adicionarAutoresIds(List.of(livro));
+        }
+
+        return livro;
+    }
+
+    private void adicionarAutoresIds(List<Map<String, Object>> livros) {
+
+        if (livros.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> autoresIdsPorLivro = ParDeIds.agrupar(livroRepository.buscarAutoresIdsPorLivros(
+                livros.stream()
+                        .map(livro -> (Long) livro.get(CamposParciais.ID))
+                        .toList()
+        ));
+
+        livros.forEach(livro -> livro.put(
+                AUTORES_IDS,
+                autoresIdsPorLivro.getOrDefault((Long) livro.get(CamposParciais.ID), List.of())
+        ));
+    }
+
+    public byte[] listarLivrosJson(String cursor, int limite) throws IOException {
+
+        CursorPaginacao.validarLimite(limite);
+
+        long geracao = fragmentosJsonLivros.geracao();
+
+        List<Livro> livros = livroRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPaginacao.decodificar(cursor),
+                Limit.of(limite + 1)
+        );
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        saida.write(INICIO_PAGINA_JSON);
+
+        List<byte[]> fragmentos = paraJson(CursorPaginacao.pagina(livros, limite), geracao);
+
+        for (int i = 0; i < fragmentos.size(); i++) {
+            if (i > 0) {
+                saida.write(',');
+            }
+            saida.write(fragmentos.get(i));
+        }
+
+        saida.write(FIM_LIVROS_JSON);
+        saida.write(objectMapper.writeValueAsBytes(CursorPaginacao.proximoCursor(livros, limite, Livro::getId)));
+        saida.write('}');
+
+        return saida.toByteArray();
+    }
+
+    public LivroPaginaResponse buscarLivros(String consulta, String cursor, int limite) {
+
+        if (consulta == null || consulta.isBlank()) {
+            throw new ValidacaoException("Termo de busca é obrigatório!");
+        }
+
+        CursorPaginacao.validarLimite(limite);
+
+        List<Long> encontrados = indiceTitulosLivros.buscar(consulta);
 
-        return livroRepository.findAll()
+        int inicio = (int) Math.max(0, Math.min(CursorPaginacao.decodificar(cursor), encontrados.size()));
+        int fim = Math.min(inicio + limite, encontrados.size());
+        List<Long> pagina = encontrados.subList(inicio, fim);
+
+        Map<Long, Livro> livrosPorId = livroRepository.findAllById(pagina)
                 .stream()
-                .map(livro -> new LivroResponse(
-                        livro.getId(),
-                        livro.getNome(),
-                        livro.getIsbn(),
-                        livro.getDataDePublicacao().toString(),
-                        livro.getAutores()
-                                .stream()
-                                .map(Autor::getId)
-                                .toList()
-                ))
+                .collect(Collectors.toMap(Livro::getId, Function.identity()));
+
+        List<Livro> livros = pagina.stream()
+                .map(livrosPorId::get)
+                .filter(Objects::nonNull)
                 .toList();
+
+        return new LivroPaginaResponse(
+                paraResponses(livros),
+                fim < encontrados.size() ? CursorPaginacao.codificar((long) fim) : null
+        );
     }
 
-    public LivroResponse salvarLivro(LivroRequest livroRequest) {
+    @Transactional(readOnly = true)
+    public void exportarLivros(OutputStream saida) throws IOException {
 
-        if (livroRepository.existsByIsbn(livroRequest.isbn())) {
-            throw new IllegalArgumentException("ISBN já cadastrado!");
+        long geracao = fragmentosJsonLivros.geracao();
+
+        try (Stream<Livro> livros = livroRepository.buscarTodosEmFluxo()) {
+            Iterator<Livro> iterator = livros.iterator();
+            List<Livro> lote = new ArrayList<>(TAMANHO_LOTE_EXPORTACAO);
+
+            while (iterator.hasNext()) {
+                lote.add(iterator.next());
+
+                if (lote.size() == TAMANHO_LOTE_EXPORTACAO || !iterator.hasNext()) {
+                    for (byte[] livro : paraJson(lote, geracao)) {
+                        saida.write(livro);
+                        saida.write('\n');
+                    }
+
+                    lote.clear();
+                    entityManager.clear();
+                    saida.flush();
+                }
+            }
         }
 
-        if (!DataValidator.dataDePublicacaoValida(livroRequest.dataDePublicacao())){
-            throw new IllegalArgumentException("Data de publicação no formato inválido! Favor fornecer data no formato aaaa-mm-dd!");
+        saida.flush();
+    }
 
+    @Transactional
+    public LivroResponse salvarLivro(LivroRequest livroRequest) {
+
+        LocalDate dataDePublicacao = DataValidator.converterData(livroRequest.dataDePublicacao());
+
+        if (dataDePublicacao == null){
+            throw new ValidacaoException("Data de publicação no formato inválido! Favor fornecer data no formato aaaa-mm-dd!");
+
+        }
+
+        if (livroRepository.existsByIsbn(livroRequest.isbn())) {
+            throw new ConflitoException("ISBN já cadastrado!");
         }
 
         List<Autor> autores = autorRepository.findAllById(livroRequest.autoresIds());
 
         if (autores.size() != livroRequest.autoresIds().size()) {
-            throw new IllegalArgumentException("Um ou mais autores não foram encontrados!");
+            throw new RecursoNaoEncontradoException("Um ou mais autores não foram encontrados!");
         }
 
         Livro livro = new Livro(
                 livroRequest.nome(),
                 livroRequest.isbn(),
-                LocalDate.parse(livroRequest.dataDePublicacao())
+                dataDePublicacao
         );
 
         livro.getAutores().addAll(autores);
 
-        autores.forEach(autor -> autor.getLivros().add(livro));
-
         Livro livroSalvo = livroRepository.save(livro);
 
+        eventPublisher.publishEvent(new LivroAlteradoEvento(livroSalvo.getId(), livroSalvo.getNome(), idsDosAutores(autores)));
+
         return new LivroResponse(
                 livroSalvo.getId(),
                 livroSalvo.getNome(),
@@ -87,197 +288,278 @@ public class LivroService {
         );
     }
 
+    @Transactional
     public LivroResponse adicionarAutorAoLivro(Long livroId, Long autorId) {
 
         Livro livro = livroRepository.findById(livroId)
                 .orElseThrow(() ->
-                        new RuntimeException("Livro com id " + livroId + " não encontrado!"));
+                        new RecursoNaoEncontradoException("Livro com id " + livroId + " não encontrado!"));
 
-        Autor autor = autorRepository.findById(autorId)
-                .orElseThrow(() ->
-                        new RuntimeException("Autor com id " + autorId + " não encontrado!"));
+        if (!autorRepository.existsById(autorId)) {
+            throw new RecursoNaoEncontradoException("Autor com id " + autorId + " não encontrado!");
+        }
 
-        if (livro.getAutores().contains(autor)) {
-            throw new IllegalArgumentException("Autor já está associado a este livro!");
+        if (livroRepository.existsByIdAndAutores_Id(livroId, autorId)) {
+            throw new ConflitoException("Autor já está associado a este livro!");
         }
 
-        livro.getAutores().add(autor);
+        livroRepository.associarAutor(livroId, autorId);
 
-        Livro livroAtualizado = livroRepository.save(livro);
+        eventPublisher.publishEvent(new LivroAlteradoEvento(livroId, livro.getNome(), Set.of(autorId)));
 
         return new LivroResponse(
-                livroAtualizado.getId(),
-                livroAtualizado.getNome(),
-                livroAtualizado.getIsbn(),
-                livroAtualizado.getDataDePublicacao().toString(),
-                livroAtualizado.getAutores()
-                        .stream()
-                        .map(Autor::getId)
-                        .toList()
+                livro.getId(),
+                livro.getNome(),
+                livro.getIsbn(),
+                livro.getDataDePublicacao().toString(),
+                livroRepository.buscarAutoresIds(livroId)
         );
     }
 
+    @Transactional
     public LivroResponse removerAutorDoLivro(Long livroId, Long autorId) {
 
-        Livro livro = livroRepository.findById(livroId)
+        Livro livro = livroRepository.buscarParaAlterarAutores(livroId)
                 .orElseThrow(() ->
-                        new RuntimeException("Livro com id " + livroId + " não encontrado!")
+                        new RecursoNaoEncontradoException("Livro com id " + livroId + " não encontrado!")
                 );
 
-        Autor autor = autorRepository.findById(autorId)
-                .orElseThrow(() ->
-                        new RuntimeException("Autor com id " + autorId + " não encontrado!")
-                );
+        if (!autorRepository.existsById(autorId)) {
+            throw new RecursoNaoEncontradoException("Autor com id " + autorId + " não encontrado!");
+        }
 
-        if (!livro.getAutores().contains(autor)) {
-            throw new IllegalArgumentException("Autor não está associado a este livro!");
+        if (!livroRepository.existsByIdAndAutores_Id(livroId, autorId)) {
+            throw new ValidacaoException("Autor não está associado a este livro!");
         }
 
-        if (livro.getAutores().size() == 1) {
-            throw new IllegalStateException(
+        if (livroRepository.contarAutores(livroId) == 1) {
+            throw new ConflitoException(
                     "Um livro não pode ficar sem autor, favor excluir o livro!"
             );
         }
 
-        livro.getAutores().remove(autor);
+        livroRepository.desassociarAutor(livroId, autorId);
 
-        Livro livroAtualizado = livroRepository.save(livro);
+        eventPublisher.publishEvent(new LivroAlteradoEvento(livroId, livro.getNome(), Set.of(autorId)));
 
         return new LivroResponse(
-                livroAtualizado.getId(),
-                livroAtualizado.getNome(),
-                livroAtualizado.getIsbn(),
-                livroAtualizado.getDataDePublicacao().toString(),
-                livroAtualizado.getAutores()
-                        .stream()
-                        .map(Autor::getId)
-                        .toList()
+                livro.getId(),
+                livro.getNome(),
+                livro.getIsbn(),
+                livro.getDataDePublicacao().toString(),
+                livroRepository.buscarAutoresIds(livroId)
         );
     }
 
     public LivroResponse buscarLivroPorId(Long livroId) {
-        Livro livro = livroRepository.findById(livroId)
+        return livroResponseCache.buscar(livroId, this::carregarLivro)
                 .orElseThrow(() ->
-                        new RuntimeException("Livro com Id " + livroId + " não encontrado!")
+                        new RecursoNaoEncontradoException("Livro com Id " + livroId + " não encontrado!")
                 );
+    }
 
-        return new LivroResponse(
-                livro.getId(),
-                livro.getNome(),
-                livro.getIsbn(),
-                livro.getDataDePublicacao().toString(),
-                livro.getAutores()
-                        .stream()
-                        .map(Autor::getId)
-                        .toList()
-        );
+    private Optional<LivroResponse> carregarLivro(Long livroId) {
+        return livroRepository.findById(livroId)
+                .map(livro -> new LivroResponse(
+                        livro.getId(),
+                        livro.getNome(),
+                        livro.getIsbn(),
+                        livro.getDataDePublicacao().toString(),
+                        livro.getAutores()
+                                .stream()
+                                .map(Autor::getId)
+                                .toList()
+                ));
     }
 
     public List<LivroPorAutorResponse> listarLivrosPorIdAutor(Long autorId) {
 
-        Autor autor = autorRepository.findById(autorId)
-                .orElseThrow(() ->
-                        new RuntimeException("Autor com id " + autorId + " não encontrado!")
-                );
+        if (!autorRepository.existsById(autorId)) {
+            throw new RecursoNaoEncontradoException("Autor com id " + autorId + " não encontrado!");
+        }
 
-        return autor.getLivros()
+        return autorRepository.buscarLivrosPorAutor(autorId)
                 .stream()
                 .map(livro -> new LivroPorAutorResponse(
-                        livro.getId(),
-                        livro.getNome(),
-                        livro.getIsbn(),
-                        livro.getDataDePublicacao().toString()
+                        livro.id(),
+                        livro.nome(),
+                        livro.isbn(),
+                        livro.dataDePublicacao().toString()
                 ))
                 .toList();
     }
 
+    @Transactional
     public void deletarLivro(Long livroId) {
 
         Livro livro = livroRepository.findById(livroId)
                 .orElseThrow(() ->
-                        new RuntimeException("Livro com id " + livroId + " não encontrado!")
+                        new RecursoNaoEncontradoException("Livro com id " + livroId + " não encontrado!")
                 );
 
         if (aluguelRepository.existsByLivros_Id(livroId)) {
-            throw new IllegalStateException(
+            throw new ConflitoException(
                     "Livro não pode ser excluído pois já está alugado!"
             );
         }
 
-        for (Autor autor : livro.getAutores()) {
-            autor.getLivros().remove(livro);
-        }
+        Set<Long> autoresIds = idsDosAutores(livro.getAutores());
 
         livroRepository.delete(livro);
+
+        eventPublisher.publishEvent(new LivroRemovidoEvento(livroId, autoresIds));
     }
 
+    @Transactional
     public LivroResponse atualizarLivro(Long livroId, LivroUpdateRequest livroUpdate) {
 
+        if (livroUpdate.nome() != null && livroUpdate.nome().isBlank()) {
+            throw new ValidacaoException("Nome não pode ser vazio!");
+        }
+
+        LocalDate dataDePublicacao = null;
+
+        if (livroUpdate.dataDePublicacao() != null) {
+            dataDePublicacao = DataValidator.converterData(livroUpdate.dataDePublicacao());
+
+            if (dataDePublicacao == null) {
+                throw new ValidacaoException("Data de publicação inválida!");
+            }
+        }
+
+        if (livroUpdate.isbn() != null && livroRepository.existsByIsbn(livroUpdate.isbn())) {
+            throw new ConflitoException("ISBN já cadastrado!");
+        }
+
+        if (livroUpdate.autoresIds() != null) {
+
+            if (livroUpdate.autoresIds().isEmpty()) {
+                throw new ValidacaoException("Livro deve possuir ao menos um autor!");
+            }
+
+            if (autorRepository.buscarIdsExistentes(livroUpdate.autoresIds()).size() != livroUpdate.autoresIds().size()) {
+                throw new RecursoNaoEncontradoException("Um ou mais autores não encontrados!");
+            }
+        }
+
         Livro livro = livroRepository.findById(livroId)
                 .orElseThrow(() ->
-                        new RuntimeException("Livro com id " + livroId + " não encontrado!")
+                        new RecursoNaoEncontradoException("Livro com id " + livroId + " não encontrado!")
                 );
 
+        List<Long> autoresAtuais = livroRepository.buscarAutoresIds(livroId);
+
+        // Os campos só mudam depois das consultas acima para que nenhuma delas antecipe o flush; com @DynamicUpdate
+        // o UPDATE do commit grava apenas as colunas alteradas.
         if (livroUpdate.nome() != null) {
-            if (livroUpdate.nome().isBlank()) {
-                throw new IllegalArgumentException("Nome não pode ser vazio!");
-            }
             livro.setNome(livroUpdate.nome());
         }
 
         if (livroUpdate.isbn() != null) {
-            if (livroRepository.existsByIsbn(livroUpdate.isbn())) {
-                throw new IllegalArgumentException("ISBN já cadastrado!");
-            }
             livro.setIsbd(livroUpdate.isbn());
         }
 
-        if (livroUpdate.dataDePublicacao() != null) {
-            if (!DataValidator.dataDePublicacaoValida(livroUpdate.dataDePublicacao())) {
-                throw new IllegalArgumentException("Data de publicação inválida!");
-            }
-            livro.setDataDePublicacao(
-                    LocalDate.parse(livroUpdate.dataDePublicacao())
-            );
+        if (dataDePublicacao != null) {
+            livro.setDataDePublicacao(dataDePublicacao);
         }
 
+        Set<Long> autoresAfetados = new HashSet<>();
+        List<Long> autoresIds = autoresAtuais;
+
         if (livroUpdate.autoresIds() != null) {
+            autoresIds = livroUpdate.autoresIds().stream().sorted().toList();
+            trocarAutores(livroId, autoresAtuais, autoresIds);
 
-            if (livroUpdate.autoresIds().isEmpty()) {
-                throw new IllegalArgumentException("Livro deve possuir ao menos um autor!");
-            }
+            autoresAfetados.addAll(autoresAtuais);
+            autoresAfetados.addAll(autoresIds);
+        }
 
-            List<Autor> autores = autorRepository.findAllById(livroUpdate.autoresIds());
+        eventPublisher.publishEvent(new LivroAlteradoEvento(livroId, livro.getNome(), autoresAfetados));
 
-            if (autores.size() != livroUpdate.autoresIds().size()) {
-                throw new IllegalArgumentException("Um ou mais autores não encontrados!");
-            }
+        return new LivroResponse(
+                livroId,
+                livro.getNome(),
+                livro.getIsbn(),
+                livro.getDataDePublicacao().toString(),
+                autoresIds
+        );
+    }
+
+    private void trocarAutores(Long livroId, List<Long> autoresAtuais, List<Long> autoresIds) {
+
+        autoresAtuais.stream()
+                .filter(autorId -> !autoresIds.contains(autorId))
+                .forEach(autorId -> livroRepository.desassociarAutor(livroId, autorId));
+
+        autoresIds.stream()
+                .filter(autorId -> !autoresAtuais.contains(autorId))
+                .forEach(autorId -> livroRepository.associarAutor(livroId, autorId));
+    }
+
+    private static Set<Long> idsDosAutores(Collection<Autor> autores) {
+        return autores.stream()
+                .map(Autor::getId)
+                .collect(Collectors.toSet());
+    }
 
-            for (Autor autor : livro.getAutores()) {
-                autor.getLivros().remove(livro);
+    private List<byte[]> paraJson(List<Livro> livros, long geracao) throws IOException {
+
+        List<byte[]> fragmentos = new ArrayList<>(livros.size());
+        List<Livro> naoSerializados = new ArrayList<>();
+
+        for (Livro livro : livros) {
+            byte[] fragmento = fragmentosJsonLivros.buscar(livro.getId());
+            fragmentos.add(fragmento);
+
+            if (fragmento == null) {
+                naoSerializados.add(livro);
             }
+        }
+
+        if (naoSerializados.isEmpty()) {
+            return fragmentos;
+        }
 
-            livro.getAutores().clear();
+        Map<Long, byte[]> serializados = new HashMap<>();
 
+        for (LivroResponse livro : paraResponses(naoSerializados)) {
+            byte[] fragmento = objectMapper.writeValueAsBytes(livro);
+            fragmentosJsonLivros.gravar(livro.id(), geracao, fragmento);
+            serializados.put(livro.id(), fragmento);
+        }
 
-            for (Autor autor : autores) {
-                livro.getAutores().add(autor);
-                autor.getLivros().add(livro);
+        for (int i = 0; i < fragmentos.size(); i++) {
+            if (fragmentos.get(i) == null) {
+                fragmentos.set(i, serializados.get(livros.get(i).getId()));
             }
         }
 
-        Livro livroAtualizado = livroRepository.save(livro);
+        return fragmentos;
+    }
 
-        return new LivroResponse(
-                livroAtualizado.getId(),
-                livroAtualizado.getNome(),
-                livroAtualizado.getIsbn(),
-                livroAtualizado.getDataDePublicacao().toString(),
-                livroAtualizado.getAutores()
-                        .stream()
-                        .map(Autor::getId)
-                        .toList()
+    private List<LivroResponse> paraResponses(List<Livro> livros) {
+
+        if (livros.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Long>> autoresIdsPorLivro = ParDeIds.agrupar(
+                livroRepository.buscarAutoresIdsPorLivros(
+                        livros.stream()
+                                .map(Livro::getId)
+                                .toList()
+                )
         );
+
+        return livros.stream()
+                .map(livro -> new LivroResponse(
+                        livro.getId(),
+                        livro.getNome(),
+                        livro.getIsbn(),
+                        livro.getDataDePublicacao().toString(),
+                        autoresIdsPorLivro.getOrDefault(livro.getId(), List.of())
+                ))
+                .toList();
     }
 
 }
@@ -5,27 +5,57 @@ import com.db.api_biblioteca.domain.entity.Aluguel;
 import com.db.api_biblioteca.domain.entity.Autor;
 import com.db.api_biblioteca.domain.entity.Livro;
 import com.db.api_biblioteca.domain.entity.Locatario;
+import com.db.api_biblioteca.domain.event.LocatarioAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LocatarioRemovidoEvento;
+import com.db.api_biblioteca.domain.exception.ConflitoException;
+import com.db.api_biblioteca.domain.exception.RecursoNaoEncontradoException;
+import com.db.api_biblioteca.domain.exception.ValidacaoException;
 import com.db.api_biblioteca.domain.repository.AluguelRepository;
 import com.db.api_biblioteca.domain.repository.LocatarioRepository;
+import com.db.api_biblioteca.domain.repository.ParDeIds;
 import com.db.api_biblioteca.domain.validation.DataValidator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class LocatarioService {
 
+    public static final List<String> CAMPOS = List.of(
+            "id", "nome", "sexo", "telefone", "email", "dataDeNascimento", "cpf", "alugueisIds"
+    );
+    private static final Map<String, String> COLUNAS = Map.of(
+            "nome", "nome",
+            "sexo", "sexo",
+            "telefone", "telefone",
+            "email", "email",
+            "dataDeNascimento", "dataDeNascimento",
+            "cpf", "cpf"
+    );
+    private static final String ALUGUEIS_IDS = "alugueisIds";
+
     private final LocatarioRepository locatarioRepository;
     private final AluguelRepository aluguelRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConsultaParcial consultaParcial;
 
-    public LocatarioService(LocatarioRepository locatarioRepository, AluguelRepository aluguelRepository) {
+    public LocatarioService(LocatarioRepository locatarioRepository, AluguelRepository aluguelRepository,
+                            ApplicationEventPublisher eventPublisher, ConsultaParcial consultaParcial) {
         this.locatarioRepository = locatarioRepository;
         this.aluguelRepository = aluguelRepository;
+        this.eventPublisher = eventPublisher;
+        this.consultaParcial = consultaParcial;
     }
 
     public List<LocatarioResponse> listarLocatarios() {
 
+        Map<Long, List<Long>> alugueisIdsPorLocatario = ParDeIds.agrupar(locatarioRepository.buscarTodosAlugueisIds());
+
         return locatarioRepository.findAll()
                 .stream()
                 .map( locatario -> new LocatarioResponse(
@@ -36,40 +66,82 @@ public class LocatarioService {
                         locatario.getEmail(),
                         locatario.getDataDeNascimento().toString(),
                         locatario.getCpf(),
-                        locatario.getAlugueis()
-                                .stream()
-                                .map(Aluguel::getId)
-                                .toList()
+                        alugueisIdsPorLocatario.getOrDefault(locatario.getId(), List.of())
                 ))
                 .toList();
     }
 
-    public LocatarioResponse salvarLocatario(LocatarioRequest locatarioRequest) {
+    public List<Map<String, Object>> listarLocatariosParciais(Set<String> campos) {
 
-        if (locatarioRepository.existsByCpf(locatarioRequest.cpf())) {
-            throw new IllegalArgumentException("CPF já cadastrado!");
+        List<Map<String, Object>> locatarios = consultaParcial.listarTodos(Locatario.class, COLUNAS, campos);
+
+        if (campos.contains(ALUGUEIS_IDS)) {
+            Map<Long, List<Long>> alugueisIdsPorLocatario =
+                    ParDeIds.agrupar(locatarioRepository.buscarTodosAlugueisIds());
+
+            locatarios.forEach(locatario -> locatario.put(
+                    ALUGUEIS_IDS,
+                    alugueisIdsPorLocatario.getOrDefault((Long) locatario.get(CamposParciais.ID), List.of())
+            ));
         }
 
-        if (locatarioRepository.existsByEmail(locatarioRequest.email())) {
-            throw new IllegalArgumentException("Email já cadastrado!");
+        return locatarios;
+    }
+
+    public LocatarioResponse buscarLocatarioPorId(Long id) {
+
+        Locatario locatario = locatarioRepository.findById(id)
+                .orElseThrow(() ->
+                        new RecursoNaoEncontradoException("Locatário com Id " + id + " não encontrado!"));
+
+        return new LocatarioResponse(
+                locatario.getId(),
+                locatario.getNome(),
+                locatario.getSexo(),
+                locatario.getTelefone(),
+                locatario.getEmail(),
+                locatario.getDataDeNascimento().toString(),
+                locatario.getCpf(),
+                locatarioRepository.buscarAlugueisIdsPorLocatario(id)
+        );
+    }
+
+    public Map<String, Object> buscarLocatarioParcialPorId(Long id, Set<String> campos) {
+
+        Map<String, Object> locatario = consultaParcial.buscarPorId(Locatario.class, COLUNAS, campos, id)
+                .orElseThrow(() ->
+                        new RecursoNaoEncontradoException("Locatário com Id " + id + " não encontrado!"));
+
+        if (campos.contains(ALUGUEIS_IDS)) {
+            locatario.put(ALUGUEIS_IDS, locatarioRepository.buscarAlugueisIdsPorLocatario(id));
         }
 
-        if (!DataValidator.dataNascimentoValida(locatarioRequest.dataDeNascimento())){
-            throw new IllegalArgumentException("Data de nascimento no formato inválido ou no futuro! Favor fornecer data no formato aaaa-mm-dd!");
+        return locatario;
+    }
+
+    @Transactional
+    public LocatarioResponse salvarLocatario(LocatarioRequest locatarioRequest) {
+
+        LocalDate dataDeNascimento = DataValidator.converterDataNascimento(locatarioRequest.dataDeNascimento());
+
+        if (dataDeNascimento == null){
+            throw new ValidacaoException("Data de nascimento no formato inválido ou no futuro! Favor fornecer data no formato aaaa-mm-dd!");
 
         }
 
-        if (locatarioRequest.sexo() != null){
-            if(!DataValidator.sexoValido(locatarioRequest.sexo())){
-                throw new IllegalArgumentException("Sexo inválido. Valores permitidos: Masculino, Feminino ou Outro!");
-            }
+        if (locatarioRepository.existsByCpf(locatarioRequest.cpf())) {
+            throw new ConflitoException("CPF já cadastrado!");
+        }
+
+        if (locatarioRepository.existsByEmail(locatarioRequest.email())) {
+            throw new ConflitoException("Email já cadastrado!");
         }
 
         Locatario locatario = new Locatario(
                 locatarioRequest.nome(),
                 locatarioRequest.telefone(),
                 locatarioRequest.email(),
-                LocalDate.parse(locatarioRequest.dataDeNascimento()),
+                dataDeNascimento,
                 locatarioRequest.cpf()
         );
 
@@ -77,6 +149,8 @@ public class LocatarioService {
 
         Locatario locatarioSalvo = locatarioRepository.save(locatario);
 
+        eventPublisher.publishEvent(new LocatarioAlteradoEvento(locatarioSalvo.getId()));
+
         return new LocatarioResponse(
                 locatario.getId(),
                 locatarioSalvo.getNome(),
@@ -93,88 +167,96 @@ public class LocatarioService {
 
     }
 
+    @Transactional
     public LocatarioResponse atualizarLocatario(Long id, LocatarioUpdateRequest locatarioUpdate) {
 
+        if (locatarioUpdate.nome() != null && locatarioUpdate.nome().isBlank()) {
+            throw new ValidacaoException("Nome não pode ser vazio!");
+        }
+
+        if (locatarioUpdate.telefone() != null && locatarioUpdate.telefone().isBlank()) {
+            throw new ValidacaoException("Telefone não pode ser vazio!");
+        }
+
+        LocalDate dataDeNascimento = null;
+
+        if (locatarioUpdate.dataDeNascimento() != null) {
+            dataDeNascimento = DataValidator.converterDataNascimento(locatarioUpdate.dataDeNascimento());
+
+            if (dataDeNascimento == null){
+                throw new ValidacaoException("Data de nascimento no formato inválido ou no futuro!");
+
+            }
+        }
+
+        if (locatarioUpdate.email() != null && locatarioRepository.existsByEmail(locatarioUpdate.email())) {
+            throw new ConflitoException("Email já cadastrado!");
+        }
+
+        if (locatarioUpdate.cpf() != null && locatarioRepository.existsByCpf(locatarioUpdate.cpf())) {
+            throw new ConflitoException("CPF já cadastrado!");
+        }
 
         Locatario locatario = locatarioRepository.findById(id)
                 .orElseThrow(() ->
-                        new RuntimeException("Locatário com Id " + id + " não encontrado!"));
+                        new RecursoNaoEncontradoException("Locatário com Id " + id + " não encontrado!"));
+
+        List<Long> alugueisIds = locatarioRepository.buscarAlugueisIdsPorLocatario(id);
 
         if (locatarioUpdate.nome() != null) {
-            if(locatarioUpdate.nome().isBlank()){
-                throw new IllegalArgumentException("Nome não pode ser vazio!");
-            }
             locatario.setNome(locatarioUpdate.nome());
-
         }
 
         if (locatarioUpdate.sexo() != null){
-            if(!DataValidator.sexoValido(locatarioUpdate.sexo())){
-                throw new IllegalArgumentException("Sexo inválido. Valores permitidos: Masculino, Feminino ou Outro!");
-            }
             locatario.setSexo(locatarioUpdate.sexo());
         }
 
         if (locatarioUpdate.telefone() != null) {
-            if(locatarioUpdate.telefone().isBlank()){
-                throw new IllegalArgumentException("Telefone não pode ser vazio!");
-            }
             locatario.setTelefone(locatarioUpdate.telefone());
-
         }
 
         if (locatarioUpdate.email() != null) {
-            if (locatarioRepository.existsByEmail(locatarioUpdate.email())) {
-                throw new IllegalArgumentException("Email já cadastrado!");
-            }
             locatario.setEmail(locatarioUpdate.email());
         }
 
-        if (locatarioUpdate.dataDeNascimento() != null) {
-            if (!DataValidator.dataNascimentoValida(locatarioUpdate.dataDeNascimento())){
-                throw new IllegalArgumentException("Data de nascimento no formato inválido ou no futuro!");
-
-            }
-            locatario.setDataDeNascimento(LocalDate.parse(locatarioUpdate.dataDeNascimento()));
+        if (dataDeNascimento != null) {
+            locatario.setDataDeNascimento(dataDeNascimento);
         }
 
         if (locatarioUpdate.cpf() != null) {
-            if (locatarioRepository.existsByCpf(locatarioUpdate.cpf())) {
-                throw new IllegalArgumentException("CPF já cadastrado!");
-            }
             locatario.setCpf(locatarioUpdate.cpf());
         }
 
-        Locatario locatarioAtualizado = locatarioRepository.save(locatario);
+        eventPublisher.publishEvent(new LocatarioAlteradoEvento(id));
 
         return new LocatarioResponse(
-                locatario.getId(),
-                locatarioAtualizado.getNome(),
-                locatarioAtualizado.getSexo(),
-                locatarioAtualizado.getTelefone(),
-                locatarioAtualizado.getEmail(),
-                locatarioAtualizado.getDataDeNascimento().toString(),
-                locatarioAtualizado.getCpf(),
-                locatario.getAlugueis()
-                        .stream()
-                        .map(Aluguel::getId)
-                        .toList()
+                id,
+                locatario.getNome(),
+                locatario.getSexo(),
+                locatario.getTelefone(),
+                locatario.getEmail(),
+                locatario.getDataDeNascimento().toString(),
+                locatario.getCpf(),
+                alugueisIds
         );
     }
 
+    @Transactional
     public void deletarLocatario(Long id) {
 
         Locatario locatario = locatarioRepository.findById(id)
                 .orElseThrow(() ->
-                        new RuntimeException("Locatário com Id " + id + " não encontrado!"));
+                        new RecursoNaoEncontradoException("Locatário com Id " + id + " não encontrado!"));
 
         if (aluguelRepository.existsByLocatario_Id(id)) {
-            throw new IllegalStateException(
+            throw new ConflitoException(
                     "Locatário não pode ser excluído pois possui livro(s) para devolver!"
             );
         }
 
         locatarioRepository.delete(locatario);
+
+        eventPublisher.publishEvent(new LocatarioRemovidoEvento(id));
     }
 
 
@@ -0,0 +1,32 @@
+package com.db.api_biblioteca.domain.service;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+final class NormalizacaoTexto {
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    private static final Pattern SEPARADORES_PALAVRAS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NormalizacaoTexto() {
+    }
+
+    static String normalizar(String texto) {
+
+        String semAcentos = MARCAS_DIACRITICAS
+                .matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+                .replaceAll("");
+
+        return ESPACOS.matcher(semAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    static List<String> palavras(String texto) {
+        return Arrays.stream(SEPARADORES_PALAVRAS.split(normalizar(texto)))
+                .filter(palavra -> !palavra.isEmpty())
+                .toList();
+    }
+}
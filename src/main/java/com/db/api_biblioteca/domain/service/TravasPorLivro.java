@@ -0,0 +1,49 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.exception.LivroIndisponivelException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class TravasPorLivro {
+
+    private final Set<Long> emAluguel = ConcurrentHashMap.newKeySet();
+
+    // Cada livro tem a sua marca e quem encontra a marca ocupada recusa na hora: nada espera segurando a conexão
+    // da transação, e livros distintos nunca disputam a mesma trava.
+    void travarAteFimDaTransacao(Collection<Long> livrosIds) {
+
+        List<Long> marcados = new ArrayList<>();
+
+        for (Long livroId : livrosIds.stream().distinct().toList()) {
+            if (!emAluguel.add(livroId)) {
+                liberar(marcados);
+                throw new LivroIndisponivelException("Um ou mais livros estão sendo alugados neste momento!");
+            }
+
+            marcados.add(livroId);
+        }
+
+        // Sem transação ativa não há commit a aguardar; a restrição única do banco segue garantindo a exclusividade.
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            liberar(marcados);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                liberar(marcados);
+            }
+        });
+    }
+
+    private void liberar(List<Long> marcados) {
+        marcados.forEach(emAluguel::remove);
+    }
+}
@@ -0,0 +1,75 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.event.AluguelAlteradoEvento;
+import com.db.api_biblioteca.domain.event.AutorAlteradoEvento;
+import com.db.api_biblioteca.domain.event.AutorRemovidoEvento;
+import com.db.api_biblioteca.domain.event.LivroAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LivroRemovidoEvento;
+import com.db.api_biblioteca.domain.event.LocatarioAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LocatarioRemovidoEvento;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Component
+public class VersaoCatalogo {
+
+    public enum Agregado {
+        AUTOR, LIVRO, ALUGUEL, LOCATARIO
+    }
+
+    private final String epoca = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX);
+    private final AtomicLongArray versoes = new AtomicLongArray(Agregado.values().length);
+
+    public String etag(Agregado... agregados) {
+
+        StringBuilder etag = new StringBuilder("\"").append(epoca);
+
+        for (Agregado agregado : agregados) {
+            etag.append('-').append(versoes.get(agregado.ordinal()));
+        }
+
+        return etag.append('"').toString();
+    }
+
+    void incrementar(Agregado agregado) {
+        versoes.incrementAndGet(agregado.ordinal());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void autorAlterado(AutorAlteradoEvento evento) {
+        incrementar(Agregado.AUTOR);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void autorRemovido(AutorRemovidoEvento evento) {
+        incrementar(Agregado.AUTOR);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void livroAlterado(LivroAlteradoEvento evento) {
+        incrementar(Agregado.LIVRO);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void livroRemovido(LivroRemovidoEvento evento) {
+        incrementar(Agregado.LIVRO);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aluguelAlterado(AluguelAlteradoEvento evento) {
+        incrementar(Agregado.ALUGUEL);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void locatarioAlterado(LocatarioAlteradoEvento evento) {
+        incrementar(Agregado.LOCATARIO);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void locatarioRemovido(LocatarioRemovidoEvento evento) {
+        incrementar(Agregado.LOCATARIO);
+    }
+}
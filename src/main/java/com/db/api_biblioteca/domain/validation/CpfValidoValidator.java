@@ -0,0 +1,49 @@
+package com.db.api_biblioteca.domain.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class CpfValidoValidator implements ConstraintValidator<CpfValido, String> {
+
+    private static final int TAMANHO_CPF = 11;
+
+    @Override
+    public boolean isValid(String cpf, ConstraintValidatorContext context) {
+        return cpf == null || cpfValido(cpf);
+    }
+
+    static boolean cpfValido(String cpf) {
+
+        if (cpf.length() != TAMANHO_CPF) {
+            return false;
+        }
+
+        boolean digitosIguais = true;
+
+        for (int i = 0; i < TAMANHO_CPF; i++) {
+            char caractere = cpf.charAt(i);
+
+            if (caractere < '0' || caractere > '9') {
+                return false;
+            }
+
+            digitosIguais &= caractere == cpf.charAt(0);
+        }
+
+        return !digitosIguais
+                && digitoVerificador(cpf, 9) == cpf.charAt(9) - '0'
+                && digitoVerificador(cpf, 10) == cpf.charAt(10) - '0';
+    }
+
+    private static int digitoVerificador(String cpf, int quantidade) {
+
+        int soma = 0;
+
+        for (int i = 0; i < quantidade; i++) {
+            soma += (cpf.charAt(i) - '0') * (quantidade + 1 - i);
+        }
+
+        int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    }
+}
@@ -0,0 +1,26 @@
+package com.db.api_biblioteca.domain.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class DataIsoValidator implements ConstraintValidator<DataIso, String> {
+
+    private boolean permitirFuturo;
+
+    @Override
+    public void initialize(DataIso dataIso) {
+        this.permitirFuturo = dataIso.permitirFuturo();
+    }
+
+    @Override
+    public boolean isValid(String data, ConstraintValidatorContext context) {
+
+        if (data == null) {
+            return true;
+        }
+
+        return permitirFuturo
+                ? DataValidator.converterData(data) != null
+                : DataValidator.converterDataNascimento(data) != null;
+    }
+}
@@ -1,43 +1,64 @@
 package com.db.api_biblioteca.domain.validation;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Month;
+import java.time.Year;
 
 public class DataValidator {
 
+    private static final int TAMANHO_DATA = 10;
+
     private DataValidator() {
     }
 
     public static boolean dataNascimentoValida(String data) {
-        try {
-            LocalDate nascimento = LocalDate.parse(data);
-            return !nascimento.isAfter(LocalDate.now());
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return converterDataNascimento(data) != null;
     }
 
     public static boolean dataDePublicacaoValida(String data) {
-        try {
-            LocalDate dataDePublicacao = LocalDate.parse(data);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+        return converterData(data) != null;
+    }
+
+    public static LocalDate converterDataNascimento(String data) {
+        LocalDate nascimento = converterData(data);
+        return nascimento == null || nascimento.isAfter(LocalDate.now()) ? null : nascimento;
+    }
+
+    public static LocalDate converterData(String data) {
+
+        if (data == null || data.length() != TAMANHO_DATA || data.charAt(4) != '-' || data.charAt(7) != '-') {
+            return null;
+        }
+
+        int ano = digitos(data, 0, 4);
+        int mes = digitos(data, 5, 7);
+        int dia = digitos(data, 8, 10);
+
+        if (ano < 0 || mes < 1 || mes > 12 || dia < 1 || dia > Month.of(mes).length(Year.isLeap(ano))) {
+            return null;
         }
+
+        return LocalDate.of(ano, mes, dia);
     }
 
-    public static boolean sexoValido(String data) {
-        List<String> sexosValidos = new ArrayList<>();
-        sexosValidos.add("Masculino");
-        sexosValidos.add("Feminino");
-        sexosValidos.add("Outro");
+    private static int digitos(String texto, int inicio, int fim) {
+
+        int valor = 0;
+
+        for (int i = inicio; i < fim; i++) {
+            int digito = texto.charAt(i) - '0';
 
-        if(sexosValidos.contains(data)) {
-            return true;
+            if (digito < 0 || digito > 9) {
+                return -1;
+            }
+
+            valor = valor * 10 + digito;
         }
 
-        return false;
+        return valor;
+    }
+
+    public static boolean sexoValido(String data) {
+        return SexoPermitido.contem(data);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.db.api_biblioteca.domain.validation;
+
+public enum SexoPermitido {
+
+    MASCULINO("Masculino"),
+    FEMININO("Feminino"),
+    OUTRO("Outro");
+
+    private static final SexoPermitido[] VALORES = values();
+
+    private final String descricao;
+
+    SexoPermitido(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String descricao() {
+        return descricao;
+    }
+
+    public static boolean contem(String descricao) {
+
+        for (SexoPermitido sexo : VALORES) {
+            if (sexo.descricao.equals(descricao)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
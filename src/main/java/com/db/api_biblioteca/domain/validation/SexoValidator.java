@@ -0,0 +1,12 @@
+package com.db.api_biblioteca.domain.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class SexoValidator implements ConstraintValidator<Sexo, String> {
+
+    @Override
+    public boolean isValid(String sexo, ConstraintValidatorContext context) {
+        return sexo == null || SexoPermitido.contem(sexo);
+    }
+}
@@ -0,0 +1,105 @@
+package com.db.api_biblioteca;
+
+import com.db.api_biblioteca.domain.event.AluguelAlteradoEvento;
+import com.db.api_biblioteca.domain.event.AutorRemovidoEvento;
+import com.db.api_biblioteca.domain.event.LivroRemovidoEvento;
+import com.db.api_biblioteca.domain.event.LocatarioRemovidoEvento;
+import com.db.api_biblioteca.domain.repository.AluguelRepository;
+import com.db.api_biblioteca.domain.repository.AutorRepository;
+import com.db.api_biblioteca.domain.repository.LivroRepository;
+import com.db.api_biblioteca.domain.repository.LocatarioRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Propriedades em @TestPropertySource para que cada teste sobrescreva só a chave que precisa; cada contexto
+// (perfil, @SpyBean, propriedade própria) ganha um banco em memória separado.
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid};DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session.events.log=false",
+        "spring.jpa.properties.hibernate.session.events.auto=com.db.api_biblioteca.domain.repository.ContadorJdbc",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.db.api_biblioteca.controller.InspetorSql"
+})
+public abstract class TesteIntegracao {
+
+    protected final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    protected ApplicationEventPublisher eventos;
+
+    @Autowired
+    protected AluguelRepository aluguelRepository;
+
+    @Autowired
+    protected LivroRepository livroRepository;
+
+    @Autowired
+    protected AutorRepository autorRepository;
+
+    @Autowired
+    protected LocatarioRepository locatarioRepository;
+
+    // deleteAllInBatch não publica eventos; os removidos são anunciados à mão para que índices, caches de
+    // respostas e versões do catálogo esqueçam os dados do teste anterior.
+    @BeforeEach
+    void limparBase() {
+        ids("Aluguel").forEach(id -> eventos.publishEvent(new AluguelAlteradoEvento(id, Set.of())));
+        ids("Livro").forEach(id -> eventos.publishEvent(new LivroRemovidoEvento(id, Set.of())));
+        ids("Autor").forEach(id -> eventos.publishEvent(new AutorRemovidoEvento(id)));
+        ids("Locatario").forEach(id -> eventos.publishEvent(new LocatarioRemovidoEvento(id)));
+
+        aluguelRepository.deleteAllInBatch();
+        livroRepository.deleteAllInBatch();
+        autorRepository.deleteAllInBatch();
+        locatarioRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private List<Long> ids(String entidade) {
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+
+        try {
+            return entityManager.createQuery("SELECT e.id FROM " + entidade + " e", Long.class).getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    protected long criar(String uri, String corpo) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(post(uri)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(corpo))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsByteArray())
+                .get("id")
+                .asLong();
+    }
+}
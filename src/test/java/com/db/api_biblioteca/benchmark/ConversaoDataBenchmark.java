@@ -0,0 +1,55 @@
+package com.db.api_biblioteca.benchmark;
+
+import com.db.api_biblioteca.domain.validation.DataValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversaoDataBenchmark {
+
+    @Param({"1912-08-10", "10/08/1912", "1912-02-30"})
+    private String data;
+
+    @Benchmark
+    public LocalDate validarEConverterComParse() {
+        try {
+            LocalDate.parse(data);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+
+        return LocalDate.parse(data);
+    }
+
+    @Benchmark
+    public LocalDate converterEmUmaPassada() {
+        return DataValidator.converterData(data);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConversaoDataBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
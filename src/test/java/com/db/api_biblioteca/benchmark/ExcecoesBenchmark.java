@@ -0,0 +1,66 @@
+package com.db.api_biblioteca.benchmark;
+
+import com.db.api_biblioteca.domain.exception.RecursoNaoEncontradoException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExcecoesBenchmark {
+
+    @Param({"20", "150"})
+    private int profundidade;
+
+    private long livroId = 1;
+
+    @Benchmark
+    public String rejeitarComRuntimeException() {
+        return rejeitar(id -> new RuntimeException("Livro com Id " + id + " não encontrado!"));
+    }
+
+    @Benchmark
+    public String rejeitarComExcecaoDeDominio() {
+        return rejeitar(id -> new RecursoNaoEncontradoException("Livro com Id " + id + " não encontrado!"));
+    }
+
+    private String rejeitar(LongFunction<RuntimeException> excecao) {
+        try {
+            return descer(profundidade, livroId++, excecao);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static String descer(int restante, long id, LongFunction<RuntimeException> excecao) {
+        if (restante == 0) {
+            throw excecao.apply(id);
+        }
+
+        return descer(restante - 1, id, excecao);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ExcecoesBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
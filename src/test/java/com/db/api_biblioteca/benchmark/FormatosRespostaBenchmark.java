@@ -0,0 +1,123 @@
+package com.db.api_biblioteca.benchmark;
+
+import com.db.api_biblioteca.domain.dto.AluguelResponse;
+import com.db.api_biblioteca.domain.repository.AluguelRepository;
+import com.db.api_biblioteca.domain.repository.LinhaAluguel;
+import com.db.api_biblioteca.domain.repository.LivroRepository;
+import com.db.api_biblioteca.domain.repository.LocatarioRepository;
+import com.db.api_biblioteca.domain.service.AluguelService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatosRespostaBenchmark {
+
+    private static final int QUANTIDADE_ALUGUEIS = 100_000;
+
+    @Param({"json", "cbor", "smile"})
+    private String formato;
+
+    private JsonFactory fabrica;
+    private ObjectMapper leitor;
+    private AluguelService aluguelService;
+    private byte[] corpo;
+
+    @Setup
+    public void preparar() throws IOException {
+
+        fabrica = switch (formato) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        leitor = new ObjectMapper(fabrica);
+
+        LocalDate retirada = LocalDate.of(2024, 1, 1);
+
+        List<LinhaAluguel> linhas = LongStream.rangeClosed(1, QUANTIDADE_ALUGUEIS)
+                .boxed()
+                .flatMap(id -> LongStream.rangeClosed(0, id % 3)
+                        .mapToObj(livro -> new LinhaAluguel(id, retirada.plusDays(id % 365),
+                                retirada.plusDays(id % 365 + 2), id % 1000, id * 3 + livro)))
+                .toList();
+
+        AluguelRepository aluguelRepository = mock(AluguelRepository.class);
+        when(aluguelRepository.buscarTodosEmFluxo()).thenAnswer(invocacao -> linhas.stream());
+
+        aluguelService = new AluguelService(
+                aluguelRepository,
+                mock(LivroRepository.class),
+                mock(LocatarioRepository.class),
+                mock(ApplicationEventPublisher.class)
+        );
+
+        corpo = serializar();
+    }
+
+    // Atribuído, e não somado, a cada chamada: o JMH publica ao lado do tempo o tamanho do corpo em cada formato.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Tamanho {
+        public long bytes;
+    }
+
+    @Benchmark
+    public byte[] escrever(Tamanho tamanho) throws IOException {
+        byte[] resultado = serializar();
+        tamanho.bytes = resultado.length;
+        return resultado;
+    }
+
+    @Benchmark
+    public List<AluguelResponse> ler(Tamanho tamanho) throws IOException {
+        tamanho.bytes = corpo.length;
+        return leitor.readValue(corpo, new TypeReference<>() {});
+    }
+
+    private byte[] serializar() throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(1 << 20);
+        aluguelService.escreverAlugueis(saida, fabrica);
+        return saida.toByteArray();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FormatosRespostaBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
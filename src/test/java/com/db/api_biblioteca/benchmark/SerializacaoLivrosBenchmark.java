@@ -0,0 +1,112 @@
+package com.db.api_biblioteca.benchmark;
+
+import com.db.api_biblioteca.domain.entity.Livro;
+import com.db.api_biblioteca.domain.repository.AluguelRepository;
+import com.db.api_biblioteca.domain.repository.AutorRepository;
+import com.db.api_biblioteca.domain.repository.LivroRepository;
+import com.db.api_biblioteca.domain.repository.ParDeIds;
+import com.db.api_biblioteca.domain.service.ConsultaParcial;
+import com.db.api_biblioteca.domain.service.FragmentosJsonLivros;
+import com.db.api_biblioteca.domain.service.IndiceTitulosLivros;
+import com.db.api_biblioteca.domain.service.LivroResponseCache;
+import com.db.api_biblioteca.domain.service.LivroService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoLivrosBenchmark {
+
+    private static final int TAMANHO_PAGINA = 100;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private LivroService livroService;
+
+    @Setup
+    public void preparar() throws IOException {
+
+        LivroRepository livroRepository = mock(LivroRepository.class);
+
+        List<Livro> livros = LongStream.rangeClosed(1, TAMANHO_PAGINA + 1)
+                .mapToObj(id -> {
+                    Livro livro = new Livro("Livro " + id, "978853591" + id, LocalDate.of(1937, 1, 1).plusDays(id));
+                    ReflectionTestUtils.setField(livro, "id", id);
+                    return livro;
+                })
+                .toList();
+
+        List<ParDeIds> autoresIds = livros.stream()
+                .map(livro -> new ParDeIds(livro.getId(), livro.getId() % 7))
+                .toList();
+
+        when(livroRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenReturn(livros);
+        when(livroRepository.buscarAutoresIdsPorLivros(anyCollection())).thenReturn(autoresIds);
+
+        livroService = new LivroService(
+                livroRepository,
+                mock(AutorRepository.class),
+                mock(AluguelRepository.class),
+                objectMapper,
+                mock(EntityManager.class),
+                mock(ApplicationEventPublisher.class),
+                new LivroResponseCache(1, Duration.ofMinutes(1), Duration.ofMinutes(1)),
+                mock(IndiceTitulosLivros.class),
+                new FragmentosJsonLivros(DataSize.ofMegabytes(1)),
+                mock(ConsultaParcial.class)
+        );
+
+        livroService.listarLivrosJson(null, TAMANHO_PAGINA);
+    }
+
+    @Benchmark
+    public byte[] serializarComJackson() throws IOException {
+        return objectMapper.writeValueAsBytes(livroService.listarLivros(null, TAMANHO_PAGINA));
+    }
+
+    @Benchmark
+    public byte[] montarComFragmentos() throws IOException {
+        return livroService.listarLivrosJson(null, TAMANHO_PAGINA);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SerializacaoLivrosBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,217 @@
+package com.db.api_biblioteca.controller;
+
+import com.db.api_biblioteca.TesteIntegracao;
+import com.db.api_biblioteca.domain.entity.Autor;
+import com.db.api_biblioteca.domain.entity.Livro;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class AssociacaoAutoresTest extends TesteIntegracao {
+
+    private long livroId;
+    private long primeiroAutorId;
+    private long segundoAutorId;
+    private long terceiroAutorId;
+
+    @BeforeEach
+    void prepararBase() throws Exception {
+        primeiroAutorId = criar("/autor", """
+                {"nome":"Jorge Amado","sexo":"Masculino","dataDeNascimento":"1912-08-10","cpf":"52998224725"}
+                """);
+        segundoAutorId = criar("/autor", """
+                {"nome":"Zélia Gattai","sexo":"Feminino","dataDeNascimento":"1916-07-02","cpf":"27100535000"}
+                """);
+        terceiroAutorId = criar("/autor", """
+                {"nome":"Rachel de Queiroz","sexo":"Feminino","dataDeNascimento":"1910-11-17","cpf":"64718335043"}
+                """);
+
+        livroId = criar("/livro", """
+                {"nome":"Capitães da Areia","isbn":"9788535914849","dataDePublicacao":"1937-01-01","autoresIds":[%d,%d]}
+                """.formatted(primeiroAutorId, segundoAutorId));
+
+        InspetorSql.COMANDOS.clear();
+    }
+
+    @Test
+    @DisplayName("Deve inserir apenas a nova linha em autor_livro ao adicionar um autor!")
+    void deveInserirUmaLinhaAoAdicionarAutor() throws Exception {
+
+        mockMvc.perform(put("/livro/adicionar/{livroId}/autor/{autorId}", livroId, terceiroAutorId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.autoresIds.length()").value(3));
+
+        assertEquals(List.of("insert"), comandosEmAutorLivro());
+    }
+
+    @Test
+    @DisplayName("Deve excluir apenas a linha do autor removido em autor_livro!")
+    void deveExcluirUmaLinhaAoRemoverAutor() throws Exception {
+
+        mockMvc.perform(put("/livro/adicionar/{livroId}/autor/{autorId}", livroId, terceiroAutorId))
+                .andExpect(status().isOk());
+        InspetorSql.COMANDOS.clear();
+
+        mockMvc.perform(put("/livro/remover/{livroId}/autor/{autorId}", livroId, terceiroAutorId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.autoresIds.length()").value(2));
+
+        assertEquals(List.of("delete"), comandosEmAutorLivro());
+    }
+
+    @Test
+    @DisplayName("Não deve deixar o livro sem autor quando dois autores são removidos ao mesmo tempo!")
+    void naoDeveRemoverOsDoisUltimosAutoresEmParalelo() throws Exception {
+
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        List<Future<Integer>> respostas = List.of(primeiroAutorId, segundoAutorId).stream()
+                .map(autorId -> executor.submit(() -> {
+                    largada.await();
+                    return mockMvc.perform(put("/livro/remover/{livroId}/autor/{autorId}", livroId, autorId))
+                            .andReturn()
+                            .getResponse()
+                            .getStatus();
+                }))
+                .toList();
+
+        largada.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES), "As remoções devem terminar em até um minuto!");
+
+        List<Integer> codigos = new ArrayList<>();
+        for (Future<Integer> resposta : respostas) {
+            codigos.add(resposta.get());
+        }
+        codigos.sort(null);
+
+        assertEquals(List.of(200, 409), codigos, "Apenas uma das remoções deve ser concluída!");
+        assertEquals(1, livroRepository.contarAutores(livroId), "O livro deve manter um autor!");
+    }
+
+    @Test
+    @DisplayName("Deve gravar livros sem carregar a bibliografia dos autores!")
+    void deveGravarLivroSemCarregarLivrosDoAutor() throws Exception {
+
+        for (int i = 0; i < 20; i++) {
+            criar("/livro", """
+                    {"nome":"Obra %d","isbn":"97800000000%02d","dataDePublicacao":"1950-01-01","autoresIds":[%d]}
+                    """.formatted(i, i, primeiroAutorId));
+        }
+
+        entityManagerFactory.getCache().evictAll();
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        long novoLivroId = criar("/livro", """
+                {"nome":"Mar Morto","isbn":"9788535911701","dataDePublicacao":"1936-01-01","autoresIds":[%d]}
+                """.formatted(primeiroAutorId));
+
+        mockMvc.perform(put("/livro/{livroId}", novoLivroId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"autoresIds":[%d]}
+                                """.formatted(terceiroAutorId)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/livro/{livroId}", novoLivroId))
+                .andExpect(status().isOk());
+
+        CollectionStatistics livrosDoAutor = estatisticas.getCollectionStatistics(Autor.class.getName() + ".livros");
+
+        assertEquals(0, livrosDoAutor.getLoadCount(), "A lista de livros do autor não deve ser carregada!");
+        assertEquals(0, livrosDoAutor.getCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("Deve verificar as regras de associação sem carregar coleções nem limpar o cache de livros!")
+    void deveVerificarRegrasSemCarregarColecoes() throws Exception {
+
+        mockMvc.perform(get("/livro/{livroId}", livroId))
+                .andExpect(status().isOk());
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        mockMvc.perform(put("/livro/adicionar/{livroId}/autor/{autorId}", livroId, terceiroAutorId))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/livro/adicionar/{livroId}/autor/{autorId}", livroId, terceiroAutorId))
+                .andExpect(status().isConflict());
+        mockMvc.perform(put("/livro/remover/{livroId}/autor/{autorId}", livroId, terceiroAutorId))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/autor/{autorId}", primeiroAutorId))
+                .andExpect(status().isConflict());
+
+        assertEquals(0, estatisticas.getCollectionStatistics(Livro.class.getName() + ".autores").getLoadCount());
+        assertEquals(0, estatisticas.getCollectionStatistics(Autor.class.getName() + ".livros").getLoadCount());
+        assertTrue(entityManagerFactory.getCache().contains(Livro.class, livroId),
+                "Alterar autor_livro não deve remover o livro do cache!");
+    }
+
+    @Test
+    @DisplayName("Deve remover do cache apenas as coleções do livro e do autor alterados!")
+    void deveInvalidarApenasColecoesAfetadas() throws Exception {
+
+        long outroLivroId = criar("/livro", """
+                {"nome":"Mar Morto","isbn":"9788535911701","dataDePublicacao":"1936-01-01","autoresIds":[%d]}
+                """.formatted(primeiroAutorId));
+
+        carregarColecoes(livroId, outroLivroId, terceiroAutorId);
+
+        mockMvc.perform(put("/livro/adicionar/{livroId}/autor/{autorId}", livroId, terceiroAutorId))
+                .andExpect(status().isOk());
+
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        String autoresDoLivro = Livro.class.getName() + ".autores";
+        String livrosDoAutor = Autor.class.getName() + ".livros";
+
+        assertFalse(cache.containsCollection(autoresDoLivro, livroId));
+        assertFalse(cache.containsCollection(livrosDoAutor, terceiroAutorId));
+        assertTrue(cache.containsCollection(autoresDoLivro, outroLivroId),
+                "Os autores de outros livros devem continuar no cache!");
+        assertTrue(cache.containsCollection(livrosDoAutor, primeiroAutorId),
+                "Os livros de outros autores devem continuar no cache!");
+    }
+
+    private void carregarColecoes(long livroId, long outroLivroId, long autorId) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+
+        try {
+            entityManager.find(Livro.class, livroId).getAutores().size();
+            entityManager.find(Livro.class, outroLivroId).getAutores().forEach(autor -> autor.getLivros().size());
+            entityManager.find(Autor.class, autorId).getLivros().size();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private List<String> comandosEmAutorLivro() {
+        return InspetorSql.COMANDOS.stream()
+                .filter(sql -> sql.contains("autor_livro"))
+                .filter(sql -> !sql.startsWith("select"))
+                .map(sql -> sql.substring(0, sql.indexOf(' ')))
+                .toList();
+    }
+}
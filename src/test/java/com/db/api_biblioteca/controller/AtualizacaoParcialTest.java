@@ -0,0 +1,190 @@
+package com.db.api_biblioteca.controller;
+
+import com.db.api_biblioteca.TesteIntegracao;
+import com.db.api_biblioteca.domain.entity.Autor;
+import com.db.api_biblioteca.domain.entity.Livro;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class AtualizacaoParcialTest extends TesteIntegracao {
+
+    private Statistics estatisticas;
+    private long autorId;
+    private long livroId;
+    private long outroLivroId;
+
+    @BeforeEach
+    void prepararBase() throws Exception {
+        autorId = criar("/autor", """
+                {"nome":"Jorge Amado","sexo":"Masculino","dataDeNascimento":"1912-08-10","cpf":"52998224725"}
+                """);
+
+        livroId = criar("/livro", """
+                {"nome":"Capitães da Areia","isbn":"9788535914849","dataDePublicacao":"1937-01-01","autoresIds":[%d]}
+                """.formatted(autorId));
+
+        outroLivroId = criar("/livro", """
+                {"nome":"Mar Morto","isbn":"9788535911701","dataDePublicacao":"1936-01-01","autoresIds":[%d]}
+                """.formatted(autorId));
+
+        // Com @DynamicUpdate e sem @Version o Hibernate invalida o cache em vez de regravá-lo, e uma inserção não
+        // entra no cache; a primeira leitura é que guarda o autor e os livros.
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.find(Autor.class, autorId);
+        entityManager.find(Livro.class, livroId);
+        entityManager.find(Livro.class, outroLivroId);
+        entityManager.close();
+
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+        InspetorSql.COMANDOS.clear();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o nome do autor com um único UPDATE sem carregar seus livros!")
+    void deveAtualizarAutorComUmUpdate() throws Exception {
+
+        atualizar("/autor/{id}", autorId, """
+                {"nome":"Jorge Leal Amado"}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Jorge Leal Amado"))
+                .andExpect(jsonPath("$.cpf").value("52998224725"))
+                .andExpect(jsonPath("$.livrosIds.length()").value(2));
+
+        assertEquals(List.of("select", "update"), tiposDeComando(),
+                "Deve ler o autor do cache, buscar só os ids dos livros e executar um único UPDATE!");
+
+        String update = InspetorSql.comandos("update", "autor").get(0);
+
+        assertTrue(update.contains("nome"));
+        assertFalse(update.contains("cpf"), "Deve alterar apenas os campos enviados!");
+        assertEquals(0, estatisticas.getCollectionStatistics(Autor.class.getName() + ".livros").getLoadCount());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o telefone do locatário com um único UPDATE!")
+    void deveAtualizarLocatarioComUmUpdate() throws Exception {
+
+        long locatarioId = criar("/locatario", """
+                {"nome":"Ana Souza","sexo":"Feminino","telefone":"999999999","email":"ana@email.com","dataDeNascimento":"1990-05-12","cpf":"12345678909"}
+                """);
+        InspetorSql.COMANDOS.clear();
+
+        atualizar("/locatario/{id}", locatarioId, """
+                {"telefone":"988887777"}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.telefone").value("988887777"))
+                .andExpect(jsonPath("$.email").value("ana@email.com"));
+
+        assertEquals(List.of("select", "select", "update"), tiposDeComando(),
+                "Deve ler o locatário, buscar só os ids dos aluguéis e executar um único UPDATE!");
+        assertFalse(InspetorSql.comandos("update", "locatario").get(0).contains("email"),
+                "Deve alterar apenas os campos enviados!");
+    }
+
+    @Test
+    @DisplayName("Deve atualizar campos do livro sem carregar seus autores!")
+    void deveAtualizarLivroSemCarregarAutores() throws Exception {
+
+        atualizar("/livro/{id}", livroId, """
+                {"nome":"Capitães da Areia (edição especial)","isbn":"9788535902778"}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isbd").value("9788535902778"))
+                .andExpect(jsonPath("$.autoresIds[0]").value(autorId));
+
+        assertEquals(List.of("select", "select", "update"), tiposDeComando(),
+                "Deve checar o ISBN, ler o livro do cache, buscar os ids dos autores e executar um único UPDATE!");
+        assertEquals(0, estatisticas.getCollectionStatistics(Livro.class.getName() + ".autores").getLoadCount());
+
+        mockMvc.perform(get("/livro/{id}", livroId))
+                .andExpect(jsonPath("$.nome").value("Capitães da Areia (edição especial)"))
+                .andExpect(jsonPath("$.isbd").value("9788535902778"));
+    }
+
+    @Test
+    @DisplayName("Deve trocar os autores do livro alterando apenas as linhas de autor_livro!")
+    void deveTrocarAutoresSemCarregarColecao() throws Exception {
+
+        long novoAutorId = criar("/autor", """
+                {"nome":"Zélia Gattai","sexo":"Feminino","dataDeNascimento":"1916-07-02","cpf":"27100535000"}
+                """);
+        InspetorSql.COMANDOS.clear();
+
+        atualizar("/livro/{id}", livroId, """
+                {"autoresIds":[%d]}
+                """.formatted(novoAutorId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Capitães da Areia"))
+                .andExpect(jsonPath("$.autoresIds.length()").value(1))
+                .andExpect(jsonPath("$.autoresIds[0]").value(novoAutorId));
+
+        assertEquals(List.of("select", "select", "delete", "insert"), tiposDeComando(),
+                "Deve checar os autores, buscar os ids atuais e trocar só as linhas alteradas!");
+        assertEquals(0, estatisticas.getCollectionStatistics(Livro.class.getName() + ".autores").getLoadCount());
+
+        mockMvc.perform(get("/livro/{id}", livroId))
+                .andExpect(jsonPath("$.autoresIds.length()").value(1))
+                .andExpect(jsonPath("$.autoresIds[0]").value(novoAutorId));
+    }
+
+    @Test
+    @DisplayName("Deve manter no cache os livros que não mudaram!")
+    void deveManterOutrosLivrosNoCache() throws Exception {
+
+        Cache cache = entityManagerFactory.getCache();
+
+        assertTrue(cache.contains(Livro.class, livroId));
+        assertTrue(cache.contains(Livro.class, outroLivroId));
+
+        atualizar("/livro/{id}", livroId, """
+                {"nome":"Capitães da Areia (edição especial)"}
+                """)
+                .andExpect(status().isOk());
+
+        assertTrue(cache.contains(Livro.class, outroLivroId), "Os demais livros devem continuar no cache!");
+        assertTrue(cache.contains(Autor.class, autorId), "Os autores devem continuar no cache!");
+
+        mockMvc.perform(get("/livro/{id}", livroId))
+                .andExpect(jsonPath("$.nome").value("Capitães da Areia (edição especial)"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 ao atualizar autor inexistente!")
+    void deveRetornarNaoEncontradoAoAtualizarAutorInexistente() throws Exception {
+
+        atualizar("/autor/{id}", autorId + 1000, """
+                {"nome":"Ninguém"}
+                """)
+                .andExpect(status().isNotFound());
+    }
+
+    private static List<String> tiposDeComando() {
+        return InspetorSql.COMANDOS.stream()
+                .map(sql -> sql.substring(0, sql.indexOf(' ')))
+                .toList();
+    }
+
+    private ResultActions atualizar(String uri, long id, String corpo) throws Exception {
+        return mockMvc.perform(put(uri, id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(corpo));
+    }
+}
@@ -0,0 +1,112 @@
+package com.db.api_biblioteca.controller;
+
+import com.db.api_biblioteca.TesteIntegracao;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class CamposParciaisTest extends TesteIntegracao {
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void prepararBase() throws Exception {
+        long autorId = criar("/autor", """
+                {"nome":"Jorge Amado","sexo":"Masculino","dataDeNascimento":"1912-08-10","cpf":"52998224725"}
+                """);
+
+        criar("/livro", """
+                {"nome":"Capitães da Areia","isbn":"9788535914849","dataDePublicacao":"1937-01-01","autoresIds":[%d]}
+                """.formatted(autorId));
+
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    @Test
+    @DisplayName("Deve listar livros com os campos pedidos em uma única consulta à tabela de livros!")
+    void deveListarLivrosParciaisEmUmaConsulta() throws Exception {
+
+        MockHttpServletResponse parcial = mockMvc.perform(get("/livro").param("fields", "nome"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        JsonNode livro = objectMapper.readTree(parcial.getContentAsByteArray()).get("livros").get(0);
+
+        assertEquals(2, livro.size());
+        assertEquals("Capitães da Areia", livro.get("nome").asText());
+        assertEquals(1, estatisticas.getPrepareStatementCount(), "Deve executar uma única consulta!");
+        assertEquals(0, estatisticas.getCollectionFetchCount());
+        assertEquals(0, estatisticas.getEntityLoadCount());
+
+        String etagCompleta = mockMvc.perform(get("/livro").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(etagCompleta, parcial.getHeader(HttpHeaders.ETAG),
+                "Cada seleção de campos deve ter sua própria ETag!");
+    }
+
+    @Test
+    @DisplayName("Deve carregar os autores do livro somente quando pedidos!")
+    void deveBuscarLivroParcialComAutores() throws Exception {
+
+        long livroId = livroRepository.findAll().get(0).getId();
+        estatisticas.clear();
+
+        JsonNode livro = objectMapper.readTree(mockMvc.perform(get("/livro/{id}", livroId)
+                        .param("fields", "autoresIds,dataDePublicacao"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray());
+
+        assertEquals(3, livro.size());
+        assertEquals("1937-01-01", livro.get("dataDePublicacao").asText());
+        assertEquals(1, livro.get("autoresIds").size());
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+        assertEquals(0, estatisticas.getCollectionFetchCount());
+    }
+
+    @Test
+    @DisplayName("Deve buscar e listar locatários com os campos pedidos!")
+    void deveBuscarLocatarioParcial() throws Exception {
+
+        long locatarioId = criar("/locatario", """
+                {"nome":"Ana Souza","sexo":"Feminino","telefone":"999999999","email":"ana@email.com","dataDeNascimento":"1990-05-12","cpf":"12345678909"}
+                """);
+        estatisticas.clear();
+
+        JsonNode locatarios = objectMapper.readTree(mockMvc.perform(get("/locatario").param("fields", "email"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray());
+
+        assertEquals(1, locatarios.size());
+        assertEquals(2, locatarios.get(0).size());
+        assertEquals("ana@email.com", locatarios.get(0).get("email").asText());
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+
+        JsonNode locatario = objectMapper.readTree(mockMvc.perform(get("/locatario/{id}", locatarioId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray());
+
+        assertEquals("Ana Souza", locatario.get("nome").asText());
+        assertEquals(0, locatario.get("alugueisIds").size());
+    }
+}
@@ -0,0 +1,105 @@
+package com.db.api_biblioteca.controller;
+
+import com.db.api_biblioteca.TesteIntegracao;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "spring.jpa.open-in-view=false")
+public class ConexoesPorRequisicaoTest extends TesteIntegracao {
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void prepararBase() {
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Deve usar uma única conexão em cada criação, atualização e exclusão de autor, livro, locatário e aluguel!")
+    void deveUsarUmaConexaoPorEscrita() throws Exception {
+
+        long autorId = criar(json(post("/autor"), """
+                {"nome":"Jorge Amado","sexo":"Masculino","dataDeNascimento":"1912-08-10","cpf":"52998224725"}
+                """));
+
+        long outroAutorId = criar(json(post("/autor"), """
+                {"nome":"Zélia Gattai","sexo":"Feminino","dataDeNascimento":"1916-07-02","cpf":"27100535000"}
+                """));
+
+        long livroId = criar(json(post("/livro"), """
+                {"nome":"Capitães da Areia","isbn":"9788535914849","dataDePublicacao":"1937-01-01","autoresIds":[%d]}
+                """.formatted(autorId)));
+
+        long outroLivroId = criar(json(post("/livro"), """
+                {"nome":"Mar Morto","isbn":"9788535911701","dataDePublicacao":"1936-01-01","autoresIds":[%d]}
+                """.formatted(autorId)));
+
+        long locatarioId = criar(json(post("/locatario"), """
+                {"nome":"Ana Souza","sexo":"Feminino","telefone":"999999999","email":"ana@email.com","dataDeNascimento":"1990-05-12","cpf":"12345678909"}
+                """));
+
+        executar(json(put("/autor/{id}", autorId), """
+                {"nome":"Jorge Amado de Faria"}
+                """));
+
+        executar(json(put("/livro/{id}", livroId), """
+                {"nome":"Capitães da Areia (edição especial)","autoresIds":[%d,%d]}
+                """.formatted(autorId, outroAutorId)));
+
+        executar(json(put("/locatario/{id}", locatarioId), """
+                {"telefone":"988887777"}
+                """));
+
+        long aluguelId = criar(json(post("/aluguel"), """
+                {"locatarioId":%d,"livrosIds":[%d]}
+                """.formatted(locatarioId, livroId)));
+
+        executar(json(put("/aluguel/{id}", aluguelId), """
+                {"livrosIds":[%d]}
+                """.formatted(outroLivroId)));
+
+        executar(delete("/aluguel/{id}", aluguelId));
+        executar(delete("/livro/{id}", livroId));
+        executar(delete("/autor/{id}", outroAutorId));
+        executar(delete("/locatario/{id}", locatarioId));
+    }
+
+    private long criar(RequestBuilder requisicao) throws Exception {
+        return objectMapper.readTree(executar(requisicao))
+                .get("id")
+                .asLong();
+    }
+
+    private byte[] executar(RequestBuilder requisicao) throws Exception {
+
+        estatisticas.clear();
+
+        byte[] corpo = mockMvc.perform(requisicao)
+                .andExpect(status().is2xxSuccessful())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        assertEquals(1, estatisticas.getConnectCount(),
+                "Cada requisição deve obter uma única conexão do pool!");
+
+        return corpo;
+    }
+
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder requisicao, String corpo) {
+        return requisicao.contentType(MediaType.APPLICATION_JSON).content(corpo);
+    }
+}
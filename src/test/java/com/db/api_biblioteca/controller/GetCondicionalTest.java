@@ -0,0 +1,57 @@
+package com.db.api_biblioteca.controller;
+
+import com.db.api_biblioteca.TesteIntegracao;
+import com.db.api_biblioteca.domain.service.AutorService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class GetCondicionalTest extends TesteIntegracao {
+
+    @SpyBean
+    private AutorService autorService;
+
+    @Test
+    @DisplayName("Deve responder 304 sem consultar o catálogo enquanto nada for alterado!")
+    void deveResponderNaoModificadoAteUmaEscrita() throws Exception {
+
+        String etag = mockMvc.perform(get("/autor"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        assertNotNull(etag, "Deve retornar ETag!");
+
+        mockMvc.perform(get("/autor").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verify(autorService, times(1)).listarAutores();
+
+        mockMvc.perform(post("/autor")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"nome":"Jorge Amado","sexo":"Masculino","dataDeNascimento":"1912-08-10","cpf":"52998224725"}
+                                """))
+                .andExpect(status().isOk());
+
+        String novaEtag = mockMvc.perform(get("/autor").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(etag, novaEtag, "A ETag deve mudar após uma escrita!");
+        verify(autorService, times(2)).listarAutores();
+    }
+}
@@ -0,0 +1,25 @@
+package com.db.api_biblioteca.controller;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class InspetorSql implements StatementInspector {
+
+    static final List<String> COMANDOS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        COMANDOS.add(sql.strip().toLowerCase(Locale.ROOT));
+        return sql;
+    }
+
+    static List<String> comandos(String tipo, String tabela) {
+        return COMANDOS.stream()
+                .filter(sql -> sql.startsWith(tipo))
+                .filter(sql -> sql.contains(tabela))
+                .toList();
+    }
+}
@@ -0,0 +1,127 @@
+package com.db.api_biblioteca.controller;
+
+import com.db.api_biblioteca.TesteIntegracao;
+import com.db.api_biblioteca.domain.dto.AluguelResponse;
+import com.db.api_biblioteca.domain.dto.AutorResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class NegociacaoConteudoTest extends TesteIntegracao {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Test
+    @DisplayName("Deve responder em CBOR com ETag própria quando solicitado!")
+    void deveResponderEmCbor() throws Exception {
+
+        mockMvc.perform(post("/autor")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"nome":"Jorge Amado","sexo":"Masculino","dataDeNascimento":"1912-08-10","cpf":"52998224725"}
+                                """))
+                .andExpect(status().isOk());
+
+        MockHttpServletResponse json = mockMvc.perform(get("/autor"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        MockHttpServletResponse cbor = mockMvc.perform(get("/autor").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertEquals(MediaType.APPLICATION_CBOR_VALUE, cbor.getContentType());
+        assertTrue(cbor.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT), "Deve variar pelo Accept!");
+        assertNotEquals(json.getHeader(HttpHeaders.ETAG), cbor.getHeader(HttpHeaders.ETAG),
+                "Cada representação deve ter sua própria ETag!");
+
+        List<AutorResponse> autores = new ObjectMapper(new CBORFactory())
+                .readValue(cbor.getContentAsByteArray(), new TypeReference<>() {});
+
+        assertEquals(new ObjectMapper().readValue(json.getContentAsByteArray(), new TypeReference<List<AutorResponse>>() {}),
+                autores);
+
+        mockMvc.perform(get("/autor")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, json.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve escrever a listagem de alugueis em Smile quando solicitado!")
+    void deveEscreverAlugueisEmSmile() throws Exception {
+
+        MvcResult resultado = mockMvc.perform(get("/aluguel").accept(APPLICATION_SMILE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MockHttpServletResponse smile = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertEquals(APPLICATION_SMILE.toString(), smile.getContentType());
+
+        List<AluguelResponse> alugueis = new ObjectMapper(new SmileFactory())
+                .readValue(smile.getContentAsByteArray(), new TypeReference<>() {});
+
+        assertEquals(List.of(), alugueis);
+    }
+
+    @Test
+    @DisplayName("Deve escolher o formato e a ETag pelo fator de qualidade do Accept!")
+    void deveRespeitarFatorDeQualidade() throws Exception {
+
+        String etagJson = mockMvc.perform(get("/autor"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse json = mockMvc.perform(get("/autor")
+                        .header(HttpHeaders.ACCEPT, "application/cbor;q=0.1, application/json"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, json.getContentType());
+        assertEquals(etagJson, json.getHeader(HttpHeaders.ETAG), "A ETag deve ser a da representação JSON enviada!");
+
+        MockHttpServletResponse cbor = mockMvc.perform(get("/autor")
+                        .header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertEquals(MediaType.APPLICATION_CBOR_VALUE, cbor.getContentType());
+        assertNotEquals(etagJson, cbor.getHeader(HttpHeaders.ETAG), "A ETag deve ser a da representação CBOR enviada!");
+
+        MvcResult resultado = mockMvc.perform(get("/aluguel")
+                        .header(HttpHeaders.ACCEPT, "application/x-jackson-smile;q=0.2, application/cbor;q=0.8, */*;q=0.1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(MediaType.APPLICATION_CBOR_VALUE, mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentType());
+    }
+}
@@ -0,0 +1,65 @@
+package com.db.api_biblioteca.controller;
+
+import com.db.api_biblioteca.TesteIntegracao;
+import com.db.api_biblioteca.domain.exception.RecursoNaoEncontradoException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class TratadorDeExcecoesTest extends TesteIntegracao {
+
+    @Test
+    @DisplayName("Deve responder 404 com problem details para livro inexistente!")
+    void deveResponderNaoEncontrado() throws Exception {
+
+        mockMvc.perform(get("/livro/{id}", 987654321L))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.detail").value("Livro com Id 987654321 não encontrado!"));
+    }
+
+    @Test
+    @DisplayName("Deve responder 409 para conflito e 400 para entrada inválida!")
+    void deveResponderConflitoEValidacao() throws Exception {
+
+        String autor = """
+                {"nome":"Clarice Lispector","sexo":"Feminino","dataDeNascimento":"1920-12-10","cpf":"39053344705"}
+                """;
+
+        mockMvc.perform(post("/autor").contentType(MediaType.APPLICATION_JSON).content(autor))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/autor").contentType(MediaType.APPLICATION_JSON).content(autor))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail").value("CPF já cadastrado!"));
+
+        mockMvc.perform(get("/livro").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Limite deve estar entre 1 e 100!"));
+
+        mockMvc.perform(post("/autor")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"nome":"","dataDeNascimento":"1920-12-10","cpf":"39053344700"}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("CPF inválido! Nome é obrigatório!"));
+    }
+
+    @Test
+    @DisplayName("Exceções de domínio não devem capturar a pilha de chamadas!")
+    void naoDeveCapturarPilhaDeChamadas() {
+
+        RecursoNaoEncontradoException exception = new RecursoNaoEncontradoException("Livro não encontrado!");
+
+        assertEquals(0, exception.getStackTrace().length);
+    }
+}
@@ -0,0 +1,63 @@
+package com.db.api_biblioteca.controller;
+
+import com.db.api_biblioteca.TesteIntegracao;
+import com.db.api_biblioteca.domain.repository.AutorRepository;
+import com.db.api_biblioteca.domain.repository.LocatarioRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpyBean(classes = {AutorRepository.class, LocatarioRepository.class})
+public class ValidacaoRequisicaoTest extends TesteIntegracao {
+
+    @Test
+    @DisplayName("Deve rejeitar requisições inválidas antes de consultar o banco!")
+    void deveRejeitarAntesDeConsultarOBanco() throws Exception {
+
+        clearInvocations(autorRepository, locatarioRepository);
+
+        mockMvc.perform(post("/autor")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"nome":"Jorge Amado","sexo":"Masculino","dataDeNascimento":"1912-08-10","cpf":"52998224726"}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(put("/autor/{id}", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"sexo":"Robô"}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(put("/locatario/{id}", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"dataDeNascimento":"1990-02-30"}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/locatario")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"nome":"Ana Souza","sexo":"Feminino","telefone":"999998888","email":"ana@email.com",
+                                "dataDeNascimento":"1990-13-01","cpf":"52998224725"}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(put("/autor/{id}", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"dataDeNascimento":"1912-8-10","cpf":"52998224725"}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(autorRepository, locatarioRepository);
+    }
+}
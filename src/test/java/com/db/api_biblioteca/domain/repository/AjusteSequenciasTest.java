@@ -0,0 +1,58 @@
+package com.db.api_biblioteca.domain.repository;
+
+import com.db.api_biblioteca.TesteIntegracao;
+import com.db.api_biblioteca.domain.entity.Livro;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// O Hibernate guarda um bloco de ids já reservado; o teste precisa de um banco cuja sequência nunca foi usada.
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:ajuste-sequencias;DB_CLOSE_DELAY=-1")
+public class AjusteSequenciasTest extends TesteIntegracao {
+
+    private static final int LIVROS_ANTIGOS = 3;
+
+    @Autowired
+    private AjusteSequencias ajusteSequencias;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve iniciar a sequência após o maior id existente para não colidir com registros antigos!")
+    void deveIniciarSequenciaAposMaiorId() {
+
+        for (long id = 1; id <= LIVROS_ANTIGOS; id++) {
+            jdbcTemplate.update("INSERT INTO livro (id, nome, isbn) VALUES (?, ?, ?)", id, "Antigo " + id, "978000000000" + id);
+        }
+
+        ajusteSequencias.ajustar();
+
+        for (int i = 0; i < LIVROS_ANTIGOS; i++) {
+            Livro livro = livroRepository.save(new Livro("Novo " + i, "979000000000" + i, LocalDate.parse("1937-01-01")));
+
+            assertTrue(livro.getId() > LIVROS_ANTIGOS, "O novo id não deve reutilizar ids existentes!");
+        }
+
+        assertEquals(LIVROS_ANTIGOS * 2, livroRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar sequências inexistentes em vez de impedir a inicialização!")
+    void deveIgnorarSequenciaInexistente() {
+
+        jdbcTemplate.execute("DROP SEQUENCE aluguel_seq");
+
+        try {
+            assertDoesNotThrow(ajusteSequencias::ajustar);
+        } finally {
+            jdbcTemplate.execute("CREATE SEQUENCE aluguel_seq START WITH 1 INCREMENT BY 50");
+        }
+    }
+}
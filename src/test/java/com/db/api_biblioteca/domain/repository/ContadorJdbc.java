@@ -0,0 +1,30 @@
+package com.db.api_biblioteca.domain.repository;
+
+import org.hibernate.SessionEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ContadorJdbc implements SessionEventListener {
+
+    static final AtomicLong EXECUCOES = new AtomicLong();
+    static final AtomicLong LOTES = new AtomicLong();
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        EXECUCOES.incrementAndGet();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        LOTES.incrementAndGet();
+    }
+
+    static void zerar() {
+        EXECUCOES.set(0);
+        LOTES.set(0);
+    }
+
+    static long idasEVoltas() {
+        return EXECUCOES.get() + LOTES.get();
+    }
+}
@@ -0,0 +1,69 @@
+package com.db.api_biblioteca.domain.repository;
+
+import com.db.api_biblioteca.TesteIntegracao;
+import com.db.api_biblioteca.domain.entity.Autor;
+import com.db.api_biblioteca.domain.entity.Livro;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InsercaoEmLoteTest extends TesteIntegracao {
+
+    private static final int LIVROS = 10_000;
+    private static final int AUTORES = 100;
+    private static final int TAMANHO_LOTE = 500;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Deve inserir 10 mil livros com autores em lotes JDBC!")
+    void deveInserirLivrosComAutoresEmLote() {
+
+        ContadorJdbc.zerar();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Autor> autores = new ArrayList<>();
+
+            for (int i = 0; i < AUTORES; i++) {
+                Autor autor = new Autor("Autor " + i, LocalDate.parse("1950-01-01"), String.format("%011d", i));
+                entityManager.persist(autor);
+                autores.add(autor);
+            }
+
+            for (int i = 0; i < LIVROS; i++) {
+                Livro livro = new Livro("Livro " + i, String.format("978%010d", i), LocalDate.parse("2000-01-01"));
+                livro.getAutores().add(autores.get(i % AUTORES));
+                livro.getAutores().add(autores.get((i + 1) % AUTORES));
+                entityManager.persist(livro);
+
+                if ((i + 1) % TAMANHO_LOTE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    // Uma referência (getReference) seria inicializada pelo equals ao entrar no Set de autores
+                    // do livro, uma consulta por autor; os autores voltam ao contexto numa consulta só.
+                    autores = entityManager.createQuery("SELECT a FROM Autor a ORDER BY a.id", Autor.class)
+                            .getResultList();
+                }
+            }
+        });
+
+        long idasEVoltas = ContadorJdbc.idasEVoltas();
+
+        assertEquals(LIVROS, livroRepository.count());
+        assertEquals(AUTORES, autorRepository.count());
+        assertTrue(idasEVoltas < LIVROS / 10,
+                "Esperado menos de " + LIVROS / 10 + " execuções JDBC para " + LIVROS + " livros, obtido " + idasEVoltas);
+    }
+}
@@ -0,0 +1,133 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.TesteIntegracao;
+import com.db.api_biblioteca.domain.dto.AluguelRequest;
+import com.db.api_biblioteca.domain.entity.Livro;
+import com.db.api_biblioteca.domain.entity.Locatario;
+import com.db.api_biblioteca.domain.exception.LivroIndisponivelException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AluguelServiceConcorrenciaTest extends TesteIntegracao {
+
+    private static final int CLIENTES = 200;
+
+    @Autowired
+    private AluguelService aluguelService;
+
+    private final List<Long> locatariosIds = new ArrayList<>();
+
+    @BeforeEach
+    void prepararBase() {
+        locatariosIds.clear();
+
+        for (int i = 0; i < CLIENTES; i++) {
+            Locatario locatario = locatarioRepository.save(new Locatario(
+                    "Locatário " + i,
+                    "987654321",
+                    "locatario" + i + "@email.com",
+                    LocalDate.parse("1990-05-12"),
+                    String.format("%011d", i)
+            ));
+            locatariosIds.add(locatario.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve alugar o mesmo livro para apenas um entre 200 locatários concorrentes!")
+    void naoDeveAlugarMesmoLivroDuasVezesSobConcorrencia() throws Exception {
+
+        Long livroId = salvarLivros(1).get(0);
+
+        List<AluguelRequest> requests = new ArrayList<>();
+        for (Long locatarioId : locatariosIds) {
+            requests.add(new AluguelRequest(locatarioId, List.of(livroId)));
+        }
+
+        Resultado resultado = executarConcorrentemente(requests);
+
+        assertEquals(1, resultado.sucessos.get(), "Apenas um aluguel deve ser concluído!");
+        assertEquals(CLIENTES - 1, resultado.conflitos.get(), "Os demais aluguéis devem falhar com conflito!");
+        assertEquals(0, resultado.outrosErros.get(), "Não deve ocorrer nenhum outro tipo de erro!");
+        assertEquals(1, aluguelRepository.count(), "Deve existir apenas um aluguel no banco!");
+    }
+
+    @Test
+    @DisplayName("Deve concluir em paralelo os aluguéis de 200 locatários com livros distintos!")
+    void deveAlugarLivrosDistintosEmParalelo() throws Exception {
+
+        List<Long> livrosIds = salvarLivros(CLIENTES);
+
+        List<AluguelRequest> requests = new ArrayList<>();
+        for (int i = 0; i < CLIENTES; i++) {
+            requests.add(new AluguelRequest(locatariosIds.get(i), List.of(livrosIds.get(i))));
+        }
+
+        Resultado resultado = executarConcorrentemente(requests);
+
+        assertEquals(CLIENTES, resultado.sucessos.get(), "Todos os aluguéis devem ser concluídos!");
+        assertEquals(0, resultado.conflitos.get(), "Nenhum aluguel deve falhar com conflito!");
+        assertEquals(0, resultado.outrosErros.get(), "Não deve ocorrer nenhum outro tipo de erro!");
+        assertEquals(CLIENTES, aluguelRepository.count(), "Deve existir um aluguel por locatário no banco!");
+    }
+
+    private List<Long> salvarLivros(int quantidade) {
+        List<Long> ids = new ArrayList<>();
+
+        for (int i = 0; i < quantidade; i++) {
+            Livro livro = livroRepository.save(new Livro(
+                    "Livro " + i,
+                    String.format("978%010d", i),
+                    LocalDate.parse("1937-01-01")
+            ));
+            ids.add(livro.getId());
+        }
+
+        return ids;
+    }
+
+    private Resultado executarConcorrentemente(List<AluguelRequest> requests) throws InterruptedException {
+        Resultado resultado = new Resultado();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests.size());
+
+        for (AluguelRequest request : requests) {
+            executor.submit(() -> {
+                try {
+                    largada.await();
+                    aluguelService.salvarAluguel(request);
+                    resultado.sucessos.incrementAndGet();
+                } catch (LivroIndisponivelException e) {
+                    resultado.conflitos.incrementAndGet();
+                } catch (Exception e) {
+                    resultado.outrosErros.incrementAndGet();
+                }
+            });
+        }
+
+        largada.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES), "Os aluguéis devem terminar em até um minuto!");
+
+        return resultado;
+    }
+
+    private static class Resultado {
+        private final AtomicInteger sucessos = new AtomicInteger();
+        private final AtomicInteger conflitos = new AtomicInteger();
+        private final AtomicInteger outrosErros = new AtomicInteger();
+    }
+}
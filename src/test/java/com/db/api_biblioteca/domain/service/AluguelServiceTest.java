@@ -3,25 +3,35 @@ package com.db.api_biblioteca.domain.service;
 import com.db.api_biblioteca.domain.dto.AluguelRequest;
 import com.db.api_biblioteca.domain.dto.AluguelResponse;
 import com.db.api_biblioteca.domain.dto.AluguelUpdateRequest;
+import com.db.api_biblioteca.domain.dto.LivroPaginaResponse;
 import com.db.api_biblioteca.domain.dto.LivroResponse;
 import com.db.api_biblioteca.domain.entity.Aluguel;
 import com.db.api_biblioteca.domain.entity.Livro;
 import com.db.api_biblioteca.domain.entity.Locatario;
+import com.db.api_biblioteca.domain.exception.LivroIndisponivelException;
 import com.db.api_biblioteca.domain.repository.AluguelRepository;
+import com.db.api_biblioteca.domain.repository.LinhaAluguel;
 import com.db.api_biblioteca.domain.repository.LivroRepository;
 import com.db.api_biblioteca.domain.repository.LocatarioRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,6 +48,11 @@ public class AluguelServiceTest {
     @Mock
     private LivroRepository livroRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private AluguelService aluguelService;
 
@@ -52,47 +67,48 @@ public class AluguelServiceTest {
     }
 
     @Test
-    @DisplayName("Deve listar todos os alugueis cadastrados!")
-    void deveListarAlugueisComSucesso() {
+    @DisplayName("Deve escrever todos os alugueis cadastrados agrupando os livros de cada um!")
+    void deveEscreverAlugueisComSucesso() throws Exception {
 
-        Locatario locatario = new Locatario(
-                "Ana Paula Souza Oliveira",
-                "987654321",
-                "ana.souza.oliveira.@email.com",
-                LocalDate.parse("1990-05-12"),
-                "12345678901"
-        );
+        LocalDate retirada = LocalDate.parse("2024-03-01");
+        LocalDate devolucao = LocalDate.parse("2024-03-03");
 
-        Livro livro1 = new Livro(
-                "Laços de Família",
-                "9788535920383",
-                LocalDate.parse("1960-01-01")
-        );
+        when(aluguelRepository.buscarTodosEmFluxo())
+                .thenReturn(Stream.of(
+                        new LinhaAluguel(1L, retirada, devolucao, 7L, 10L),
+                        new LinhaAluguel(1L, retirada, devolucao, 7L, 11L),
+                        new LinhaAluguel(2L, retirada, devolucao, 8L, null)
+                ));
 
-        Livro livro2 = new Livro(
-                "Perto do Coração Selvagem",
-                "9788535920413",
-                LocalDate.parse("1943-01-01")
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        aluguelService.escreverAlugueis(saida, objectMapper.getFactory());
+
+        List<AluguelResponse> response = objectMapper.readValue(
+                saida.toByteArray(),
+                new TypeReference<List<AluguelResponse>>() {}
         );
 
-        List<Livro> livros = List.of(livro1, livro2);
+        assertEquals(List.of(
+                new AluguelResponse(1L, "2024-03-01", "2024-03-03", 7L, List.of(10L, 11L)),
+                new AluguelResponse(2L, "2024-03-01", "2024-03-03", 8L, List.of())
+        ), response, "Deve escrever um aluguel por linha agrupada, com seus livros!");
 
-        Aluguel aluguel = new Aluguel(locatario, livros);
+        verify(aluguelRepository, times(1)).buscarTodosEmFluxo();
+        verifyNoMoreInteractions(aluguelRepository);
+    }
 
-        when(aluguelRepository.findAll())
-                .thenReturn(List.of(aluguel));
+    @Test
+    @DisplayName("Deve escrever lista vazia quando não houver alugueis!")
+    void deveEscreverListaVaziaSemAlugueis() throws Exception {
 
-        List<AluguelResponse> response = aluguelService.listarAlugueis();
+        when(aluguelRepository.buscarTodosEmFluxo()).thenReturn(Stream.empty());
 
-        assertNotNull(response, "O retorno não pode ser nulo!");
-        assertEquals(1, response.size(), "Deve retornar uma lista com um aluguel!");
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
 
-        AluguelResponse aluguelResponse = response.get(0);
-        assertEquals(2, aluguelResponse.livrosIds().size(), "Deve retornar dois livros!");
-        assertNotNull(aluguelResponse.dataRetirada(), "Data de retirada não pode ser nula!");
-        assertNotNull(aluguelResponse.dataDevolucao(), "Data de devolução não pode ser nula!");
+        aluguelService.escreverAlugueis(saida, objectMapper.getFactory());
 
-        verify(aluguelRepository, times(1)).findAll();
+        assertEquals("[]", saida.toString(StandardCharsets.UTF_8));
     }
 
     @Test
@@ -130,7 +146,7 @@ public class AluguelServiceTest {
         when(livroRepository.findAllById(livrosIds))
                 .thenReturn(List.of(livro1, livro2));
 
-        when(aluguelRepository.save(any(Aluguel.class)))
+        when(aluguelRepository.saveAndFlush(any(Aluguel.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         AluguelResponse response = aluguelService.salvarAluguel(request);
@@ -143,7 +159,7 @@ public class AluguelServiceTest {
 
         verify(locatarioRepository, times(1)).findById(1L);
         verify(livroRepository, times(1)).findAllById(livrosIds);
-        verify(aluguelRepository, times(1)).save(any(Aluguel.class));
+        verify(aluguelRepository, times(1)).saveAndFlush(any(Aluguel.class));
     }
 
     @Test
@@ -171,7 +187,7 @@ public class AluguelServiceTest {
 
         verify(locatarioRepository, times(1)).findById(1L);
         verify(livroRepository, never()).findAllById(any());
-        verify(aluguelRepository, never()).save(any());
+        verify(aluguelRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -216,7 +232,83 @@ public class AluguelServiceTest {
 
         verify(locatarioRepository, times(1)).findById(1L);
         verify(livroRepository, times(1)).findAllById(List.of(1L, 2L));
-        verify(aluguelRepository, never()).save(any());
+        verify(aluguelRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar conflito quando algum livro já estiver alugado!")
+    void deveLancarConflitoQuandoLivroJaEstiverAlugado() {
+
+        Locatario locatario = new Locatario(
+                "Carlos Eduardo",
+                "987654321",
+                "carlos@email.com",
+                LocalDate.parse("1985-03-20"),
+                "98765432100"
+        );
+
+        Livro livro = new Livro(
+                "Laços de Família",
+                "9788535920383",
+                LocalDate.parse("1960-01-01")
+        );
+
+        AluguelRequest request = new AluguelRequest(1L, List.of(1L));
+
+        when(locatarioRepository.findById(1L))
+                .thenReturn(Optional.of(locatario));
+
+        when(livroRepository.findAllById(List.of(1L)))
+                .thenReturn(List.of(livro));
+
+        when(aluguelRepository.existsByLivrosIdIn(List.of(1L)))
+                .thenReturn(true);
+
+        LivroIndisponivelException exception = assertThrows(
+                LivroIndisponivelException.class,
+                () -> aluguelService.salvarAluguel(request)
+        );
+
+        assertEquals("Um ou mais livros estão alugados!", exception.getMessage(), "Deve retornar que o livro já está alugado!");
+
+        verify(aluguelRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar conflito quando o banco rejeitar um segundo aluguel do mesmo livro!")
+    void deveLancarConflitoQuandoRestricaoDoBancoForViolada() {
+
+        Locatario locatario = new Locatario(
+                "Carlos Eduardo",
+                "987654321",
+                "carlos@email.com",
+                LocalDate.parse("1985-03-20"),
+                "98765432100"
+        );
+
+        Livro livro = new Livro(
+                "Laços de Família",
+                "9788535920383",
+                LocalDate.parse("1960-01-01")
+        );
+
+        AluguelRequest request = new AluguelRequest(1L, List.of(1L));
+
+        when(locatarioRepository.findById(1L))
+                .thenReturn(Optional.of(locatario));
+
+        when(livroRepository.findAllById(List.of(1L)))
+                .thenReturn(List.of(livro));
+
+        when(aluguelRepository.saveAndFlush(any(Aluguel.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_aluguel_livro_livro"));
+
+        LivroIndisponivelException exception = assertThrows(
+                LivroIndisponivelException.class,
+                () -> aluguelService.salvarAluguel(request)
+        );
+
+        assertEquals("Um ou mais livros estão alugados!", exception.getMessage(), "Deve retornar que o livro já está alugado!");
     }
 
     @Test
@@ -229,41 +321,26 @@ public class AluguelServiceTest {
                 LocalDate.parse("1937-01-01")
         );
 
-        Livro livroAlugado = new Livro(
-                "Gabriela, Cravo e Canela",
-                "9788535914856",
-                LocalDate.parse("1958-01-01")
-        );
-
         // 👇 simula IDs gerados pelo banco
         setId(livroDisponivel, 1L);
-        setId(livroAlugado, 2L);
 
-        when(livroRepository.findAll())
-                .thenReturn(List.of(livroDisponivel, livroAlugado));
+        when(livroRepository.buscarDisponiveis(0L, 21))
+                .thenReturn(List.of(livroDisponivel));
 
-        when(aluguelRepository.buscarIdsLivrosAlugados())
-                .thenReturn(List.of(2L));
+        LivroPaginaResponse response =
+                aluguelService.listarLivrosDisponiveis(null, 20);
 
-        List<LivroResponse> response =
-                aluguelService.listarLivrosDisponiveis();
+        assertEquals(1, response.livros().size(), "Deve retornar uma lista com um livro disponivel!");
+        assertEquals("Capitães da Areia", response.livros().get(0).nome(), "Deve retornar Capitães da Areia!");
+        assertNull(response.proximoCursor(), "Não deve retornar cursor quando não houver próxima página!");
 
-        assertEquals(1, response.size(), "Deve retornar uma lista com um livro disponivel!");
-        assertEquals("Capitães da Areia", response.get(0).nome(), "Deve retornar Capitães da Areia!");
+        verify(livroRepository, never()).findAll();
     }
 
     @Test
     @DisplayName("Deve listar todos os livros alugados")
     void deveListarLivrosAlugados() {
 
-        Locatario locatario = new Locatario(
-                "Ana Paula",
-                "987654321",
-                "ana.souza.oliveira.@email.com",
-                LocalDate.parse("1990-05-12"),
-                "12345678901"
-        );
-
         Livro livro1 = new Livro(
                 "Capitães da Areia",
                 "9788535914849",
@@ -276,20 +353,30 @@ public class AluguelServiceTest {
                 LocalDate.parse("1958-01-01")
         );
 
-        Aluguel aluguel = new Aluguel(locatario, List.of(livro1, livro2));
+        setId(livro1, 1L);
+        setId(livro2, 2L);
 
-        when(aluguelRepository.findAll())
-                .thenReturn(List.of(aluguel));
+        when(livroRepository.buscarAlugados(0L, 2))
+                .thenReturn(List.of(livro1, livro2));
 
-        List<LivroResponse> response =
-                aluguelService.listarLivrosAlugados();
+        LivroPaginaResponse response =
+                aluguelService.listarLivrosAlugados(null, 1);
 
         assertNotNull(response, "O retorno não pode ser nulo!");
-        assertEquals(2, response.size(), "Deve retornar uma lista com dois livros alugados!");
-        assertEquals("Capitães da Areia", response.get(0).nome(), "Deve retornar Capitães da Areia!");
-        assertEquals("Gabriela, Cravo e Canela", response.get(1).nome(), "Gabriela, Cravo e Canela!");
+        assertEquals(1, response.livros().size(), "Deve retornar uma página com um livro alugado!");
+        assertEquals("Capitães da Areia", response.livros().get(0).nome(), "Deve retornar Capitães da Areia!");
+        assertNotNull(response.proximoCursor(), "Deve retornar cursor para a próxima página!");
+
+        when(livroRepository.buscarAlugados(1L, 2))
+                .thenReturn(List.of(livro2));
 
-        verify(aluguelRepository, times(1)).findAll();
+        LivroPaginaResponse proximaPagina =
+                aluguelService.listarLivrosAlugados(response.proximoCursor(), 1);
+
+        assertEquals("Gabriela, Cravo e Canela", proximaPagina.livros().get(0).nome(), "Gabriela, Cravo e Canela!");
+        assertNull(proximaPagina.proximoCursor(), "Não deve retornar cursor na última página!");
+
+        verify(aluguelRepository, never()).findAll();
     }
 
     @Test
@@ -316,15 +403,12 @@ public class AluguelServiceTest {
                 LocalDate.parse("1958-01-01")
         );
 
-        Aluguel aluguel1 = new Aluguel(locatario, List.of(livro1));
-        Aluguel aluguel2 = new Aluguel(locatario, List.of(livro2));
-
-        locatario.getAlugueis().add(aluguel1);
-        locatario.getAlugueis().add(aluguel2);
-
         when(locatarioRepository.findById(1L))
                 .thenReturn(Optional.of(locatario));
 
+        when(livroRepository.buscarAlugadosPorLocatario(1L))
+                .thenReturn(List.of(livro1, livro2));
+
         List<LivroResponse> response =
                 aluguelService.listarLivrosAlugadosPorLocatario(1L);
 
@@ -334,6 +418,7 @@ public class AluguelServiceTest {
         assertEquals("Gabriela, Cravo e Canela", response.get(1).nome(), "Gabriela, Cravo e Canela!");
 
         verify(locatarioRepository, times(1)).findById(1L);
+        verify(livroRepository, times(1)).buscarAlugadosPorLocatario(1L);
     }
 
     @Test
@@ -427,14 +512,14 @@ public class AluguelServiceTest {
         when(locatarioRepository.findById(2L))
                 .thenReturn(Optional.of(novoLocatario));
 
-        when(aluguelRepository.save(any(Aluguel.class)))
+        when(aluguelRepository.saveAndFlush(any(Aluguel.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         AluguelResponse response =
                 aluguelService.atualizarAluguel(4L, request);
 
         assertEquals(2L, response.locatarioId(), "Deve atualizar o locatário!");
-        verify(aluguelRepository, times(1)).save(aluguel);
+        verify(aluguelRepository, times(1)).saveAndFlush(aluguel);
     }
 
     @Test
@@ -478,7 +563,7 @@ public class AluguelServiceTest {
         when(aluguelRepository.existsByLivrosIdIn(List.of(2L)))
                 .thenReturn(false);
 
-        when(aluguelRepository.save(any(Aluguel.class)))
+        when(aluguelRepository.saveAndFlush(any(Aluguel.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         AluguelResponse response =
@@ -506,7 +591,7 @@ public class AluguelServiceTest {
         assertEquals("Aluguel com id 1 não encontrado!",exception.getMessage(), "Deve retornar aluguel com id 1 não encontrado!");
 
         verify(aluguelRepository, times(1)).findById(1L);
-        verify(aluguelRepository, never()).save(any());
+        verify(aluguelRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -545,7 +630,7 @@ public class AluguelServiceTest {
 
         assertEquals("Locatario com id 1 não encontrado!", exception.getMessage(), "Deve retornar locatário com id 1 não encontrado!");
 
-        verify(aluguelRepository, never()).save(any());
+        verify(aluguelRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -581,7 +666,7 @@ public class AluguelServiceTest {
 
         assertEquals("O aluguel deve possuir ao menos um livro!",exception.getMessage(), "Deve retornar que o aluguel deve possuir um ou mais livros!");
 
-        verify(aluguelRepository, never()).save(any());
+        verify(aluguelRepository, never()).saveAndFlush(any());
     }
 
 
@@ -2,20 +2,27 @@ package com.db.api_biblioteca.domain.service;
 
 import com.db.api_biblioteca.domain.dto.AutorRequest;
 import com.db.api_biblioteca.domain.dto.AutorResponse;
+import com.db.api_biblioteca.domain.dto.AutorSugestaoResponse;
 import com.db.api_biblioteca.domain.dto.AutorUpdateRequest;
 import com.db.api_biblioteca.domain.entity.Autor;
-import com.db.api_biblioteca.domain.entity.Livro;
+import com.db.api_biblioteca.domain.exception.ConflitoException;
+import com.db.api_biblioteca.domain.exception.ValidacaoException;
 import com.db.api_biblioteca.domain.repository.AutorRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,6 +34,12 @@ public class AutorServiceTest {
     @Mock
     private AutorRepository autorRepository;
 
+    @Mock
+    private IndiceNomesAutores indiceNomesAutores;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AutorService autorService;
 
@@ -71,8 +84,8 @@ public class AutorServiceTest {
         when(autorRepository.existsByCpf(request.cpf()))
                 .thenReturn(true);
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ConflitoException exception = assertThrows(
+                ConflitoException.class,
                 () -> autorService.salvarAutor(request)
         );
 
@@ -91,8 +104,8 @@ public class AutorServiceTest {
                 "12345678900"
         );
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ValidacaoException exception = assertThrows(
+                ValidacaoException.class,
                 () -> autorService.salvarAutor(request)
         );
 
@@ -101,7 +114,7 @@ public class AutorServiceTest {
     }
 
     @Test
-    @DisplayName("Não deve salvar o autor e deve retornar erro de sexo inválido!")
+    @DisplayName("Não deve salvar o autor e deve rejeitar sexo inválido na validação da requisição!")
     void naoDeveSalvarAutorComSexoNoFormatoInvalido() {
 
         AutorRequest request = new AutorRequest(
@@ -111,13 +124,14 @@ public class AutorServiceTest {
                 "12345678900"
         );
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
-                () -> autorService.salvarAutor(request)
-        );
+        Set<String> mensagens = Validation.buildDefaultValidatorFactory()
+                .getValidator()
+                .validateProperty(request, "sexo")
+                .stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
 
-        assertEquals("Sexo inválido. Valores permitidos: Masculino, Feminino ou Outro!", exception.getMessage(), "Deve retornar a mensagem de Sexo inválido!");
-        verify(autorRepository, never()).save(any());
+        assertEquals(Set.of("Sexo inválido. Valores permitidos: Masculino, Feminino ou Outro!"), mensagens, "Deve retornar a mensagem de Sexo inválido!");
     }
 
     @Test
@@ -170,11 +184,14 @@ public class AutorServiceTest {
 
         when(autorRepository.findByNomeIgnoreCase(nome))
                 .thenReturn(Optional.of(autor));
+        when(autorRepository.buscarLivrosIdsPorAutor(autor.getId()))
+                .thenReturn(List.of(3L, 7L));
 
         AutorResponse response = autorService.buscarAutorPorNomeCompleto(nome);
 
         assertNotNull(response, "O retorno não pode ser nulo!");
         assertEquals(nome, response.nome(), "Deve retornar Machado de Assis!");
+        assertEquals(List.of(3L, 7L), response.livrosIds(), "Deve retornar os ids dos livros do autor!");
 
         verify(autorRepository).findByNomeIgnoreCase(nome);
     }
@@ -251,17 +268,12 @@ public class AutorServiceTest {
                 "12345678900"
         );
 
-        Livro livro = new Livro(
-                "Capitães da Areia",
-                "9788535914849",
-                LocalDate.parse("1937-01-01")
-        );
-
-        autor.getLivros().add(livro);
-
         when(autorRepository.findById(autorId))
                 .thenReturn(Optional.of(autor));
 
+        when(autorRepository.existsByIdAndLivrosIsNotEmpty(autorId))
+                .thenReturn(true);
+
         RuntimeException exception = assertThrows(
                 RuntimeException.class,
                 () -> autorService.deletarAutor(autorId)
@@ -278,13 +290,6 @@ public class AutorServiceTest {
 
         Long id = 1L;
 
-        Autor autor = new Autor(
-                "Machado",
-                LocalDate.parse("1839-06-21"),
-                "12345678900"
-        );
-        autor.setSexo("Masculino");
-
         AutorUpdateRequest updateRequest = new AutorUpdateRequest(
                 "Machado de Assis",
                 null,
@@ -292,19 +297,23 @@ public class AutorServiceTest {
                 null
         );
 
+        Autor autor = new Autor("Machado", LocalDate.parse("1839-06-21"), "12345678900");
+
         when(autorRepository.findById(id))
                 .thenReturn(Optional.of(autor));
 
-        when(autorRepository.save(any(Autor.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(autorRepository.buscarLivrosIdsPorAutor(id))
+                .thenReturn(List.of(5L, 6L));
 
         AutorResponse response = autorService.atualizarAutor(id, updateRequest);
 
         assertNotNull(response, "O retorno não pode ser nulo!");
         assertEquals("Machado de Assis", response.nome(), "Deve retornar Machado de Assis!");
+        assertEquals("Machado de Assis", autor.getNome(), "Deve alterar o nome no autor carregado!");
+        assertEquals("12345678900", response.cpf(), "Deve manter o CPF do autor!");
+        assertEquals(List.of(5L, 6L), response.livrosIds(), "Deve retornar os ids dos livros do autor!");
 
-        verify(autorRepository).findById(id);
-        verify(autorRepository).save(any(Autor.class));
+        verify(autorRepository, never()).save(any());
     }
 
     @Test
@@ -330,8 +339,7 @@ public class AutorServiceTest {
 
         assertEquals("Autor com Id 1 não encontrado!",exception.getMessage(), "Deve retornar autor com id 1 não encontrado!");
 
-        verify(autorRepository).findById(id);
-        verify(autorRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -340,12 +348,6 @@ public class AutorServiceTest {
 
         Long id = 1L;
 
-        Autor autorExistente = new Autor(
-                "Machado de Assis",
-                LocalDate.parse("1839-06-21"),
-                "12345678900"
-        );
-
         AutorUpdateRequest updateRequest = new AutorUpdateRequest(
                 null,
                 null,
@@ -353,21 +355,36 @@ public class AutorServiceTest {
                 "00987654321"
         );
 
-        when(autorRepository.findById(id))
-                .thenReturn(Optional.of(autorExistente));
-
         when(autorRepository.existsByCpf("00987654321"))
                 .thenReturn(true);
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ConflitoException exception = assertThrows(
+                ConflitoException.class,
                 () -> autorService.atualizarAutor(id, updateRequest)
         );
 
         assertEquals("CPF já cadastrado!", exception.getMessage(), "Deve retornar a mensagem de cpf já cadastrado!");
 
-        verify(autorRepository).findById(id);
-        verify(autorRepository, never()).save(any());
+        verify(autorRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve sugerir autores pelo índice de nomes sem consultar o banco!")
+    void deveSugerirAutoresPeloIndice() {
+
+        List<AutorSugestaoResponse> sugestoes = List.of(new AutorSugestaoResponse(1L, "Jorge Amado"));
+        when(indiceNomesAutores.buscarPorPrefixo("jor", 5)).thenReturn(sugestoes);
+
+        assertEquals(sugestoes, autorService.sugerirAutores("jor", 5));
+        verifyNoInteractions(autorRepository);
+    }
+
+    @Test
+    @DisplayName("Não deve sugerir autores com prefixo vazio!")
+    void naoDeveSugerirComPrefixoVazio() {
+
+        assertThrows(ValidacaoException.class, () -> autorService.sugerirAutores("  ", 5));
+        verifyNoInteractions(indiceNomesAutores);
     }
 
 }
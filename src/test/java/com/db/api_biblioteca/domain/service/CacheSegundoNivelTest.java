@@ -0,0 +1,117 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.TesteIntegracao;
+import com.db.api_biblioteca.domain.dto.AutorRequest;
+import com.db.api_biblioteca.domain.dto.EstatisticasCacheResponse;
+import com.db.api_biblioteca.domain.dto.LivroPorAutorResponse;
+import com.db.api_biblioteca.domain.dto.LivroRequest;
+import com.db.api_biblioteca.domain.dto.LivroUpdateRequest;
+import com.db.api_biblioteca.domain.dto.RegiaoCacheResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("estatisticas")
+public class CacheSegundoNivelTest extends TesteIntegracao {
+
+    @Autowired
+    private LivroService livroService;
+
+    @Autowired
+    private AutorService autorService;
+
+    @Autowired
+    private EstatisticasCacheService estatisticasCacheService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void prepararBase() {
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    @Test
+    @DisplayName("Deve buscar livro e autores do cache sem acessar o banco!")
+    void deveBuscarLivroDoCache() {
+
+        Long autorId = salvarAutor("Jorge Amado", "52998224725");
+        Long livroId = emTransacao(() -> livroService.salvarLivro(livro("Capitães da Areia", "9788535914849", autorId)).id());
+
+        emTransacao(() -> livroService.buscarLivroPorId(livroId));
+        long consultasAntes = estatisticas.getPrepareStatementCount();
+
+        emTransacao(() -> livroService.buscarLivroPorId(livroId));
+        autorRepository.findAllById(List.of(autorId));
+
+        assertEquals(consultasAntes, estatisticas.getPrepareStatementCount(), "Nenhuma consulta deve ir ao banco!");
+
+        EstatisticasCacheResponse response = estatisticasCacheService.buscarEstatisticas();
+        assertTrue(response.acertos() > 0, "Deve registrar acertos no cache!");
+        assertTrue(response.regioes().stream().map(RegiaoCacheResponse::regiao).toList()
+                .containsAll(List.of("autor", "autor-livros", "livro", "livro-autores")));
+    }
+
+    @Test
+    @DisplayName("Deve invalidar os livros do autor em cache ao alterar autores de um livro!")
+    void deveInvalidarLivrosDoAutorAoAlterarAutoresDoLivro() {
+
+        Long jorgeId = salvarAutor("Jorge Amado", "52998224725");
+        Long zeliaId = salvarAutor("Zélia Gattai", "11144477735");
+        Long capitaesId = emTransacao(() -> livroService.salvarLivro(livro("Capitães da Areia", "9788535914849", jorgeId)).id());
+        Long anarquistasId = emTransacao(() -> livroService.salvarLivro(livro("Anarquistas, Graças a Deus", "9788535914850", zeliaId)).id());
+
+        assertEquals(List.of(capitaesId), livrosDoAutor(jorgeId));
+
+        emTransacao(() -> livroService.adicionarAutorAoLivro(anarquistasId, jorgeId));
+        assertEquals(List.of(capitaesId, anarquistasId), livrosDoAutor(jorgeId));
+
+        emTransacao(() -> livroService.removerAutorDoLivro(anarquistasId, jorgeId));
+        assertEquals(List.of(capitaesId), livrosDoAutor(jorgeId));
+
+        assertEquals(List.of(anarquistasId), livrosDoAutor(zeliaId));
+        emTransacao(() -> livroService.atualizarLivro(anarquistasId, new LivroUpdateRequest(null, null, null, List.of(jorgeId))));
+        assertEquals(List.of(), livrosDoAutor(zeliaId));
+        assertEquals(List.of(capitaesId, anarquistasId), livrosDoAutor(jorgeId));
+
+        transactionTemplate.executeWithoutResult(status -> livroService.deletarLivro(anarquistasId));
+        transactionTemplate.executeWithoutResult(status -> livroService.deletarLivro(capitaesId));
+        assertEquals(List.of(), livrosDoAutor(jorgeId));
+
+        transactionTemplate.executeWithoutResult(status -> autorService.deletarAutor(jorgeId));
+        assertFalse(autorRepository.existsById(jorgeId));
+    }
+
+    private List<Long> livrosDoAutor(Long autorId) {
+        return emTransacao(() -> livroService.listarLivrosPorIdAutor(autorId)
+                .stream()
+                .map(LivroPorAutorResponse::id)
+                .sorted()
+                .toList());
+    }
+
+    private Long salvarAutor(String nome, String cpf) {
+        return emTransacao(() -> autorService.salvarAutor(new AutorRequest(nome, "Masculino", "1912-08-10", cpf)).id());
+    }
+
+    private <T> T emTransacao(Supplier<T> operacao) {
+        return transactionTemplate.execute(status -> operacao.get());
+    }
+
+    private static LivroRequest livro(String nome, String isbn, Long autorId) {
+        return new LivroRequest(nome, isbn, "1937-01-01", List.of(autorId));
+    }
+}
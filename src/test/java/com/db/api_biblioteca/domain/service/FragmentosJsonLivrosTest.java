@@ -0,0 +1,63 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.event.LivroRemovidoEvento;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FragmentosJsonLivrosTest {
+
+    private final FragmentosJsonLivros fragmentos = new FragmentosJsonLivros(64);
+
+    @Test
+    @DisplayName("Deve devolver o fragmento gravado até o livro ser invalidado!")
+    void deveDevolverFragmentoAteInvalidacao() {
+
+        fragmentos.gravar(1L, fragmentos.geracao(), json("{\"id\":1}"));
+
+        assertArrayEquals(json("{\"id\":1}"), fragmentos.buscar(1L));
+        assertNull(fragmentos.buscar(2L));
+
+        fragmentos.livroRemovido(new LivroRemovidoEvento(1L, Set.of()));
+
+        assertNull(fragmentos.buscar(1L));
+    }
+
+    @Test
+    @DisplayName("Não deve gravar fragmento lido antes de uma invalidação!")
+    void naoDeveGravarFragmentoDesatualizado() {
+
+        long geracaoLida = fragmentos.geracao();
+
+        fragmentos.invalidar(1L);
+        fragmentos.gravar(1L, geracaoLida, json("{\"id\":1}"));
+
+        assertNull(fragmentos.buscar(1L));
+    }
+
+    @Test
+    @DisplayName("Deve descartar os fragmentos mais antigos ao esgotar a memória reservada!")
+    void deveDescartarFragmentosMaisAntigos() {
+
+        fragmentos.gravar(1L, fragmentos.geracao(), json("{\"nome\":\"Capitães da Areia\"}"));
+        fragmentos.gravar(2L, fragmentos.geracao(), json("{\"nome\":\"Mar Morto\"}"));
+        fragmentos.gravar(3L, fragmentos.geracao(), json("{\"nome\":\"Gabriela, Cravo e Canela\"}"));
+
+        assertNull(fragmentos.buscar(1L));
+        assertNull(fragmentos.buscar(2L));
+        assertArrayEquals(json("{\"nome\":\"Gabriela, Cravo e Canela\"}"), fragmentos.buscar(3L));
+
+        fragmentos.gravar(4L, fragmentos.geracao(), new byte[65]);
+
+        assertNull(fragmentos.buscar(4L));
+        assertNotNull(fragmentos.buscar(3L));
+    }
+
+    private static byte[] json(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,190 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.dto.ErroImportacaoResponse;
+import com.db.api_biblioteca.domain.dto.ImportacaoResponse;
+import com.db.api_biblioteca.domain.entity.Autor;
+import com.db.api_biblioteca.domain.entity.Livro;
+import com.db.api_biblioteca.domain.event.LivroAlteradoEvento;
+import com.db.api_biblioteca.domain.repository.AutorRepository;
+import com.db.api_biblioteca.domain.repository.LivroRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportacaoLivrosServiceTest {
+
+    @Mock
+    private LivroRepository livroRepository;
+
+    @Mock
+    private AutorRepository autorRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private ImportacaoLivrosService importacaoLivrosService;
+
+    @Test
+    @DisplayName("Deve importar livros de CSV e relatar as linhas inválidas!")
+    void deveImportarLivrosDeCsv() throws Exception {
+
+        String csv = """
+                nome,isbn,dataDePublicacao,autoresIds
+                "Capitães da Areia, edição especial",9788535914849,1937-01-01,1;2
+                Mar Morto,9788535914850,1936-01-01,1
+
+                Jubiabá,123,1935-01-01,1
+                Gabriela,9788535914851,data,1
+                Tieta,9788535914852,1977-01-01,3
+                Terras do Sem-Fim,9788535914849,1943-01-01,1
+                Dona Flor,9788535914853,1966-01-01,abc
+                Seara Vermelha,9788535914854,1946-01-01,1
+                """;
+
+        when(livroRepository.buscarIsbnsExistentes(anyCollection()))
+                .thenReturn(List.of("9788535914854"));
+        when(autorRepository.buscarIdsExistentes(anyCollection()))
+                .thenReturn(List.of(1L, 2L));
+        when(entityManager.getReference(eq(Autor.class), any()))
+                .thenAnswer(invocation -> new Autor("Jorge Amado", LocalDate.parse("1912-08-10"), "12345678900"));
+
+        ImportacaoResponse response = importacaoLivrosService.importarCsv(fluxo(csv));
+
+        assertEquals(8, response.linhasProcessadas());
+        assertEquals(2, response.registrosImportados());
+        assertEquals(List.of(
+                new ErroImportacaoResponse(5, "ISBN deve conter 13 dígitos numéricos começando por 978 ou 979!"),
+                new ErroImportacaoResponse(6, "Data de publicação no formato inválido! Favor fornecer data no formato aaaa-mm-dd!"),
+                new ErroImportacaoResponse(7, "Um ou mais autores não foram encontrados!"),
+                new ErroImportacaoResponse(8, "ISBN já cadastrado!"),
+                new ErroImportacaoResponse(9, "Linha mal formatada!"),
+                new ErroImportacaoResponse(10, "ISBN já cadastrado!")
+        ), response.erros());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Livro>> captor = ArgumentCaptor.forClass(List.class);
+        verify(livroRepository).saveAllAndFlush(captor.capture());
+
+        List<Livro> livros = captor.getValue();
+        assertEquals("Capitães da Areia, edição especial", livros.get(0).getNome());
+        assertEquals(2, livros.get(0).getAutores().size());
+        assertEquals("Mar Morto", livros.get(1).getNome());
+
+        verify(livroRepository, times(1)).buscarIsbnsExistentes(anyCollection());
+        verify(autorRepository, times(1)).buscarIdsExistentes(anyCollection());
+        verify(entityManager).clear();
+    }
+
+    @Test
+    @DisplayName("Deve importar livros de NDJSON e relatar as linhas mal formatadas!")
+    void deveImportarLivrosDeNdjson() throws Exception {
+
+        String ndjson = """
+                {"nome":"Capitães da Areia","isbn":"9788535914849","dataDePublicacao":"1937-01-01","autoresIds":[1]}
+                {"nome":"Mar Morto",
+                {"nome":"","isbn":"9788535914850","dataDePublicacao":"1936-01-01","autoresIds":[1]}
+                """;
+
+        when(livroRepository.buscarIsbnsExistentes(anyCollection()))
+                .thenReturn(List.of());
+        when(autorRepository.buscarIdsExistentes(anyCollection()))
+                .thenReturn(List.of(1L));
+        when(entityManager.getReference(Autor.class, 1L))
+                .thenReturn(new Autor("Jorge Amado", LocalDate.parse("1912-08-10"), "12345678900"));
+
+        ImportacaoResponse response = importacaoLivrosService.importarNdjson(fluxo(ndjson));
+
+        assertEquals(3, response.linhasProcessadas());
+        assertEquals(1, response.registrosImportados());
+        assertEquals(List.of(
+                new ErroImportacaoResponse(2, "Linha mal formatada!"),
+                new ErroImportacaoResponse(3, "Nome é obrigatório!")
+        ), response.erros());
+    }
+
+    @Test
+    @DisplayName("Deve regravar linha a linha o lote que conflitar no banco e relatar apenas as linhas em conflito!")
+    void deveRelatarConflitoDoLoteLinhaALinha() throws Exception {
+
+        String ndjson = """
+                {"nome":"Capitães da Areia","isbn":"9788535914849","dataDePublicacao":"1937-01-01","autoresIds":[1]}
+                {"nome":"Mar Morto","isbn":"9788535914850","dataDePublicacao":"1936-01-01","autoresIds":[1]}
+                """;
+
+        when(livroRepository.buscarIsbnsExistentes(anyCollection()))
+                .thenReturn(List.of(), List.of("9788535914850"));
+        when(autorRepository.buscarIdsExistentes(anyCollection()))
+                .thenReturn(List.of(1L));
+        when(entityManager.getReference(Autor.class, 1L))
+                .thenReturn(new Autor("Jorge Amado", LocalDate.parse("1912-08-10"), "12345678900"));
+        when(livroRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("ISBN gravado por outro cliente"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        ImportacaoResponse response = importacaoLivrosService.importarNdjson(fluxo(ndjson));
+
+        assertEquals(2, response.linhasProcessadas());
+        assertEquals(1, response.registrosImportados());
+        assertEquals(List.of(new ErroImportacaoResponse(2, "ISBN já cadastrado!")), response.erros());
+        verify(eventPublisher, times(1)).publishEvent(any(LivroAlteradoEvento.class));
+    }
+
+    @Test
+    @DisplayName("Não deve acessar o banco quando nenhuma linha for válida!")
+    void naoDeveAcessarBancoQuandoNenhumaLinhaForValida() throws Exception {
+
+        ImportacaoResponse response = importacaoLivrosService.importarCsv(fluxo("""
+                nome,isbn,dataDePublicacao,autoresIds
+                "Capitães da Areia,9788535914849,1937-01-01,1
+                """));
+
+        assertEquals(1, response.linhasProcessadas());
+        assertEquals(0, response.registrosImportados());
+        assertEquals(List.of(new ErroImportacaoResponse(2, "Linha mal formatada!")), response.erros());
+        verifyNoInteractions(livroRepository, autorRepository, entityManager);
+    }
+
+    private static InputStream fluxo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,174 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.dto.ErroImportacaoResponse;
+import com.db.api_biblioteca.domain.dto.ImportacaoResponse;
+import com.db.api_biblioteca.domain.entity.Locatario;
+import com.db.api_biblioteca.domain.repository.LocatarioRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportacaoLocatariosServiceTest {
+
+    @Mock
+    private LocatarioRepository locatarioRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private ImportacaoLocatariosService importacaoLocatariosService;
+
+    @Test
+    @DisplayName("Deve importar locatários de CSV consultando o banco apenas para prováveis colisões!")
+    void deveImportarLocatariosDeCsv() throws Exception {
+
+        String csv = """
+                nome,sexo,telefone,email,dataDeNascimento,cpf
+                Ana,Feminino,987654321,ana@email.com,1990-01-01,11144477735
+                Bruno,,987654321,bruno@email.com,1991-02-02,52998224725
+                Carla,Feminino,987654321,carla@email.com,1992-03-03,52998224725
+                Diego,Masculino,987654321,bruno@email.com,1993-04-04,39053344705
+                Elisa,Robô,987654321,elisa@email.com,1994-05-05,71428793860
+                Fábio,Masculino,987654321,fabio@email.com,3000-01-01,27100535000
+                Gil,Masculino,123,gil@email.com,1995-06-06,64718335043
+                """;
+
+        when(locatarioRepository.count()).thenReturn(1L);
+        when(locatarioRepository.buscarTodosCpfs()).thenReturn(Stream.of("11144477735"));
+        when(locatarioRepository.buscarTodosEmails()).thenReturn(Stream.of("antiga@email.com"));
+        when(locatarioRepository.buscarCpfsExistentes(List.of("11144477735")))
+                .thenReturn(List.of("11144477735"));
+
+        ImportacaoResponse response = importacaoLocatariosService.importarCsv(fluxo(csv));
+
+        assertEquals(7, response.linhasProcessadas());
+        assertEquals(1, response.registrosImportados());
+        assertEquals(List.of(
+                new ErroImportacaoResponse(2, "CPF já cadastrado!"),
+                new ErroImportacaoResponse(4, "CPF já cadastrado!"),
+                new ErroImportacaoResponse(5, "Email já cadastrado!"),
+                new ErroImportacaoResponse(6, "Sexo inválido. Valores permitidos: Masculino, Feminino ou Outro!"),
+                new ErroImportacaoResponse(7, "Data de nascimento no formato inválido ou no futuro! Favor fornecer data no formato aaaa-mm-dd!"),
+                new ErroImportacaoResponse(8, "Telefone deve conter 9 dígitos numericos e sem DDD!")
+        ), response.erros());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Locatario>> captor = ArgumentCaptor.forClass(List.class);
+        verify(locatarioRepository).saveAllAndFlush(captor.capture());
+
+        Locatario locatario = captor.getValue().get(0);
+        assertEquals("Bruno", locatario.getNome());
+        assertNull(locatario.getSexo());
+
+        verify(locatarioRepository, times(1)).buscarCpfsExistentes(anyCollection());
+        verify(locatarioRepository, never()).buscarEmailsExistentes(anyCollection());
+        verify(locatarioRepository, never()).existsByCpf(any());
+        verify(locatarioRepository, never()).existsByEmail(any());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar colisões quando o banco estiver vazio!")
+    void naoDeveConsultarColisoesQuandoBancoEstiverVazio() throws Exception {
+
+        String ndjson = """
+                {"nome":"Ana","telefone":"987654321","email":"ana@email.com","dataDeNascimento":"1990-01-01","cpf":"11144477735"}
+                {"nome":"Bruno","telefone":"987654321","email":"bruno@email.com","dataDeNascimento":"1991-02-02","cpf":"52998224725"}
+                """;
+
+        ImportacaoResponse response = importacaoLocatariosService.importarNdjson(fluxo(ndjson));
+
+        assertEquals(2, response.registrosImportados());
+        assertTrue(response.erros().isEmpty());
+        verify(locatarioRepository, never()).buscarCpfsExistentes(anyCollection());
+        verify(locatarioRepository, never()).buscarEmailsExistentes(anyCollection());
+        verify(locatarioRepository).saveAllAndFlush(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve regravar linha a linha o lote que conflitar no banco sem bloquear as demais linhas!")
+    void deveRelatarConflitoDoLoteLinhaALinha() throws Exception {
+
+        String ndjson = """
+                {"nome":"Ana","telefone":"987654321","email":"ana@email.com","dataDeNascimento":"1990-01-01","cpf":"11144477735"}
+                {"nome":"Bruno","telefone":"987654321","email":"bruno@email.com","dataDeNascimento":"1991-02-02","cpf":"52998224725"}
+                """;
+
+        when(locatarioRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("CPF gravado por outro cliente"))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DataIntegrityViolationException("CPF gravado por outro cliente"));
+
+        ImportacaoResponse response = importacaoLocatariosService.importarNdjson(fluxo(ndjson));
+
+        assertEquals(2, response.linhasProcessadas());
+        assertEquals(1, response.registrosImportados());
+        assertEquals(List.of(
+                new ErroImportacaoResponse(2, "Registro conflita com dados gravados durante a importação!")
+        ), response.erros());
+    }
+
+    @Test
+    @DisplayName("Filtro de Bloom nunca deve negar um valor adicionado!")
+    void filtroBloomNaoDeveTerFalsosNegativos() {
+
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filtro.adicionar(String.format("%011d", i));
+        }
+
+        long falsosPositivos = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filtro.podeConter(String.format("%011d", i)));
+
+            if (filtro.podeConter(String.format("%011d", i + 10_000))) {
+                falsosPositivos++;
+            }
+        }
+
+        assertTrue(falsosPositivos < 300, "Taxa de falsos positivos acima do esperado: " + falsosPositivos);
+    }
+
+    private static InputStream fluxo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.dto.AutorSugestaoResponse;
+import com.db.api_biblioteca.domain.event.AutorAlteradoEvento;
+import com.db.api_biblioteca.domain.event.AutorRemovidoEvento;
+import com.db.api_biblioteca.domain.repository.AutorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IndiceNomesAutoresTest {
+
+    @Mock
+    private AutorRepository autorRepository;
+
+    @InjectMocks
+    private IndiceNomesAutores indice;
+
+    @BeforeEach
+    void carregarIndice() {
+        when(autorRepository.buscarTodosNomes()).thenReturn(List.of(
+                new AutorSugestaoResponse(1L, "Jorge Amado"),
+                new AutorSugestaoResponse(2L, "José de Alencar"),
+                new AutorSugestaoResponse(3L, "JOÃO  Cabral de Melo Neto"),
+                new AutorSugestaoResponse(4L, "Clarice Lispector"),
+                new AutorSugestaoResponse(5L, "Jorge Amado")
+        ));
+
+        indice.carregar();
+    }
+
+    @Test
+    @DisplayName("Deve sugerir autores ignorando acentos e maiúsculas!")
+    void deveSugerirIgnorandoAcentosEMaiusculas() {
+
+        assertEquals(List.of(2L), ids(indice.buscarPorPrefixo("JOSÉ", 10)));
+        assertEquals(List.of(3L), ids(indice.buscarPorPrefixo("joao cabral", 10)));
+        assertEquals(List.of(), ids(indice.buscarPorPrefixo("machado", 10)));
+
+        verify(autorRepository, times(1)).buscarTodosNomes();
+    }
+
+    @Test
+    @DisplayName("Deve sugerir autores em ordem alfabética respeitando o limite!")
+    void deveSugerirEmOrdemRespeitandoLimite() {
+
+        assertEquals(List.of(3L, 1L, 5L, 2L), ids(indice.buscarPorPrefixo("jo", 10)));
+        assertEquals(List.of(3L, 1L), ids(indice.buscarPorPrefixo("jo", 2)));
+    }
+
+    @Test
+    @DisplayName("Deve manter o índice atualizado ao alterar e remover autores!")
+    void deveAtualizarIndiceNasEscritas() {
+
+        indice.autorAlterado(new AutorAlteradoEvento(6L, "Érico Veríssimo"));
+        indice.autorAlterado(new AutorAlteradoEvento(1L, "Zélia Gattai"));
+        indice.autorRemovido(new AutorRemovidoEvento(5L));
+
+        assertEquals(List.of(new AutorSugestaoResponse(6L, "Érico Veríssimo")), indice.buscarPorPrefixo("eri", 10));
+        assertEquals(List.of(new AutorSugestaoResponse(1L, "Zélia Gattai")), indice.buscarPorPrefixo("zel", 10));
+        assertEquals(List.of(), ids(indice.buscarPorPrefixo("jorge", 10)));
+    }
+
+    private static List<Long> ids(List<AutorSugestaoResponse> sugestoes) {
+        return sugestoes.stream().map(AutorSugestaoResponse::id).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.event.LivroAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LivroRemovidoEvento;
+import com.db.api_biblioteca.domain.repository.LivroRepository;
+import com.db.api_biblioteca.domain.repository.TituloDeLivro;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IndiceTitulosLivrosTest {
+
+    @Mock
+    private LivroRepository livroRepository;
+
+    private IndiceTitulosLivros indice;
+
+    @BeforeEach
+    void carregarIndice() {
+        indice = new IndiceTitulosLivros(
+                livroRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                true,
+                3
+        );
+
+        when(livroRepository.buscarTodosTitulos()).thenReturn(Stream.of(
+                new TituloDeLivro(1L, "Capitães da Areia"),
+                new TituloDeLivro(2L, "Gabriela, Cravo e Canela"),
+                new TituloDeLivro(3L, "O Capitão de Longo Curso"),
+                new TituloDeLivro(4L, "Areia"),
+                new TituloDeLivro(5L, "A Morte e a Morte de Quincas Berro d'Água")
+        ));
+
+        indice.carregar();
+    }
+
+    @Test
+    @DisplayName("Deve buscar livros por palavras ignorando acentos, maiúsculas e pontuação!")
+    void deveBuscarPorPalavras() {
+
+        assertEquals(List.of(2L), indice.buscar("CANELA, cravo"));
+        assertEquals(List.of(5L), indice.buscar("agua"));
+        assertEquals(List.of(), indice.buscar("capitaes gabriela"));
+        assertEquals(List.of(), indice.buscar("!!!"));
+    }
+
+    @Test
+    @DisplayName("Deve priorizar palavra completa e títulos mais curtos!")
+    void deveOrdenarPorRelevancia() {
+
+        assertEquals(List.of(4L, 1L), indice.buscar("areia"));
+        assertEquals(List.of(1L, 3L), indice.buscar("capit"));
+        assertEquals(List.of(3L), indice.buscar("capitao"));
+    }
+
+    @Test
+    @DisplayName("Deve buscar por parte de palavra apenas a partir do tamanho mínimo!")
+    void deveRespeitarTamanhoMinimoDoPrefixo() {
+
+        assertEquals(List.of(2L), indice.buscar("gab"));
+        assertEquals(List.of(), indice.buscar("ga"));
+    }
+
+    @Test
+    @DisplayName("Deve manter o índice atualizado ao salvar, alterar e remover livros!")
+    void deveAtualizarIndiceNasEscritas() {
+
+        indice.livroAlterado(new LivroAlteradoEvento(6L, "Tenda dos Milagres", Set.of(1L)));
+        indice.livroAlterado(new LivroAlteradoEvento(4L, "Mar Morto", Set.of(1L)));
+        indice.livroRemovido(new LivroRemovidoEvento(2L, Set.of(1L)));
+
+        assertEquals(List.of(6L), indice.buscar("milagres"));
+        assertEquals(List.of(1L), indice.buscar("areia"));
+        assertEquals(List.of(4L, 5L), indice.buscar("mort"));
+        assertEquals(List.of(), indice.buscar("gabriela"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.dto.LivroResponse;
+import com.db.api_biblioteca.domain.event.AluguelAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LivroAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LivroRemovidoEvento;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LivroResponseCacheTest {
+
+    private static final LivroResponse LIVRO =
+            new LivroResponse(1L, "Capitães da Areia", "9788535914849", "1937-01-01", List.of(2L));
+
+    private final AtomicLong relogio = new AtomicLong();
+
+    private final LivroResponseCache cache =
+            new LivroResponseCache(100, Duration.ofMinutes(10), Duration.ofSeconds(30), relogio::get);
+
+    @Test
+    @DisplayName("Deve carregar apenas uma vez o livro pedido por vários clientes ao mesmo tempo!")
+    void deveCarregarUmaVezSobConcorrencia() throws Exception {
+
+        int clientes = 50;
+        AtomicInteger carregamentos = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(clientes);
+        List<Future<Optional<LivroResponse>>> resultados = new ArrayList<>();
+
+        for (int i = 0; i < clientes; i++) {
+            resultados.add(executor.submit(() -> {
+                largada.await();
+                return cache.buscar(1L, id -> {
+                    carregamentos.incrementAndGet();
+                    dormir(100);
+                    return Optional.of(LIVRO);
+                });
+            }));
+        }
+
+        largada.countDown();
+
+        for (Future<Optional<LivroResponse>> resultado : resultados) {
+            assertEquals(Optional.of(LIVRO), resultado.get(10, TimeUnit.SECONDS));
+        }
+
+        executor.shutdown();
+        assertEquals(1, carregamentos.get(), "O livro deve ser carregado uma única vez!");
+    }
+
+    @Test
+    @DisplayName("Deve guardar livro não encontrado apenas pelo tempo configurado!")
+    void deveExpirarLivroNaoEncontrado() {
+
+        AtomicInteger carregamentos = new AtomicInteger();
+
+        cache.buscar(1L, id -> naoEncontrado(carregamentos));
+        cache.buscar(1L, id -> naoEncontrado(carregamentos));
+        assertEquals(1, carregamentos.get());
+
+        relogio.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        cache.buscar(1L, id -> naoEncontrado(carregamentos));
+        assertEquals(2, carregamentos.get());
+    }
+
+    @Test
+    @DisplayName("Deve manter livro encontrado além do tempo de livro não encontrado!")
+    void deveManterLivroEncontrado() {
+
+        AtomicInteger carregamentos = new AtomicInteger();
+
+        cache.buscar(1L, id -> encontrado(carregamentos));
+        relogio.addAndGet(Duration.ofMinutes(5).toNanos());
+        cache.buscar(1L, id -> encontrado(carregamentos));
+
+        assertEquals(1, carregamentos.get());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o livro em cache a cada escrita de livro ou aluguel!")
+    void deveInvalidarLivroNasEscritas() {
+
+        AtomicInteger carregamentos = new AtomicInteger();
+
+        cache.buscar(1L, id -> encontrado(carregamentos));
+        cache.livroAlterado(new LivroAlteradoEvento(1L, "Capitães da Areia", Set.of()));
+        cache.buscar(1L, id -> encontrado(carregamentos));
+        cache.aluguelAlterado(new AluguelAlteradoEvento(10L, Set.of(1L, 3L)));
+        cache.buscar(1L, id -> encontrado(carregamentos));
+        cache.livroRemovido(new LivroRemovidoEvento(1L, Set.of(2L)));
+        cache.buscar(1L, id -> encontrado(carregamentos));
+
+        assertEquals(4, carregamentos.get());
+    }
+
+    private static Optional<LivroResponse> encontrado(AtomicInteger carregamentos) {
+        carregamentos.incrementAndGet();
+        return Optional.of(LIVRO);
+    }
+
+    private static Optional<LivroResponse> naoEncontrado(AtomicInteger carregamentos) {
+        carregamentos.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private static void dormir(long milissegundos) {
+        try {
+            Thread.sleep(milissegundos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
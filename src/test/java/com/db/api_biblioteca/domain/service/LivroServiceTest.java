@@ -3,22 +3,44 @@ package com.db.api_biblioteca.domain.service;
 import com.db.api_biblioteca.domain.dto.*;
 import com.db.api_biblioteca.domain.entity.Autor;
 import com.db.api_biblioteca.domain.entity.Livro;
+import com.db.api_biblioteca.domain.event.LivroAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LivroRemovidoEvento;
+import com.db.api_biblioteca.domain.exception.ConflitoException;
+import com.db.api_biblioteca.domain.exception.RecursoNaoEncontradoException;
+import com.db.api_biblioteca.domain.exception.ValidacaoException;
 import com.db.api_biblioteca.domain.repository.AluguelRepository;
 import com.db.api_biblioteca.domain.repository.AutorRepository;
+import com.db.api_biblioteca.domain.repository.LivroDoAutor;
 import com.db.api_biblioteca.domain.repository.LivroRepository;
+import com.db.api_biblioteca.domain.repository.ParDeIds;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,9 +55,88 @@ public class LivroServiceTest {
     @Mock
     private AluguelRepository aluguelRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private IndiceTitulosLivros indiceTitulosLivros;
+
+    @Mock
+    private ConsultaParcial consultaParcial;
+
+    @Spy
+    private FragmentosJsonLivros fragmentosJsonLivros = new FragmentosJsonLivros(64 * 1024);
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private LivroResponseCache livroResponseCache =
+            new LivroResponseCache(100, Duration.ofMinutes(10), Duration.ofSeconds(30), Ticker.systemTicker());
+
     @InjectMocks
     private LivroService livroService;
 
+    @Test
+    @DisplayName("Deve listar apenas os campos pedidos sem consultar autores quando não forem pedidos!")
+    void deveListarLivrosParciaisSemAutores() {
+
+        Set<String> campos = CamposParciais.interpretar("nome", LivroService.CAMPOS);
+
+        when(consultaParcial.listar(eq(Livro.class), any(), eq(campos), eq(0L), eq(3)))
+                .thenReturn(List.of(livroParcial(1L, "Capitães da Areia"), livroParcial(2L, "Gabriela")));
+
+        LivroPaginaParcialResponse response = livroService.listarLivrosParciais(campos, null, 2);
+
+        assertEquals(List.of(
+                Map.of("id", 1L, "nome", "Capitães da Areia"),
+                Map.of("id", 2L, "nome", "Gabriela")
+        ), response.livros());
+        assertNull(response.proximoCursor());
+
+        verifyNoInteractions(livroRepository);
+    }
+
+    @Test
+    @DisplayName("Deve carregar os ids dos autores em uma única consulta quando pedidos!")
+    void deveListarLivrosParciaisComAutores() {
+
+        Set<String> campos = CamposParciais.interpretar("autoresIds, nome", LivroService.CAMPOS);
+
+        when(consultaParcial.listar(eq(Livro.class), any(), eq(campos), eq(0L), eq(2)))
+                .thenReturn(List.of(livroParcial(1L, "Capitães da Areia"), livroParcial(2L, "Gabriela")));
+        when(livroRepository.buscarAutoresIdsPorLivros(List.of(1L)))
+                .thenReturn(List.of(new ParDeIds(1L, 7L)));
+
+        LivroPaginaParcialResponse response = livroService.listarLivrosParciais(campos, null, 1);
+
+        assertEquals(List.of(Map.of("id", 1L, "nome", "Capitães da Areia", "autoresIds", List.of(7L))),
+                response.livros());
+        assertEquals(List.of("id", "nome", "autoresIds"), List.copyOf(response.livros().get(0).keySet()));
+        assertNotNull(response.proximoCursor());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao pedir campo inexistente!")
+    void deveRecusarCampoInexistente() {
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class,
+                () -> CamposParciais.interpretar("nome,editora", LivroService.CAMPOS));
+
+        assertEquals("Campo editora inválido! Campos permitidos: id, nome, isbd, dataDePublicacao, autoresIds.",
+                exception.getMessage());
+    }
+
+    private static Map<String, Object> livroParcial(Long id, String nome) {
+        Map<String, Object> livro = new LinkedHashMap<>();
+        livro.put("id", id);
+        livro.put("nome", nome);
+        return livro;
+    }
+
     @Test
     @DisplayName("Deve salvar e retornar livro com sucesso quando existir ao menos um autor!")
     void deveSalvarLivroComSucesso() {
@@ -90,8 +191,8 @@ public class LivroServiceTest {
         when(autorRepository.findAllById(request.autoresIds()))
                 .thenReturn(List.of(autorExistente));
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        RecursoNaoEncontradoException exception = assertThrows(
+                RecursoNaoEncontradoException.class,
                 () -> livroService.salvarLivro(request)
         );
 
@@ -116,8 +217,8 @@ public class LivroServiceTest {
         when(aluguelRepository.existsByLivros_Id(1L))
                 .thenReturn(true);
 
-        IllegalStateException exception = assertThrows(
-                IllegalStateException.class,
+        ConflitoException exception = assertThrows(
+                ConflitoException.class,
                 () -> livroService.deletarLivro(1L)
         );
 
@@ -147,8 +248,8 @@ public class LivroServiceTest {
         when(livroRepository.existsByIsbn(request.isbn()))
                 .thenReturn(true);
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ConflitoException exception = assertThrows(
+                ConflitoException.class,
                 () -> livroService.salvarLivro(request)
         );
 
@@ -174,8 +275,8 @@ public class LivroServiceTest {
         );
         autor.setSexo("Masculino");
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ValidacaoException exception = assertThrows(
+                ValidacaoException.class,
                 () -> livroService.salvarLivro(request)
         );
 
@@ -206,26 +307,203 @@ public class LivroServiceTest {
                 LocalDate.parse("1958-01-01")
         );
 
-        livro1.getAutores().add(autor);
-        livro2.getAutores().add(autor);
+        ReflectionTestUtils.setField(autor, "id", 5L);
+        ReflectionTestUtils.setField(livro1, "id", 1L);
+        ReflectionTestUtils.setField(livro2, "id", 2L);
 
-        when(livroRepository.findAll())
+        when(livroRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
                 .thenReturn(List.of(livro1, livro2));
 
-        List<LivroResponse> response = livroService.listarLivros();
+        when(livroRepository.buscarAutoresIdsPorLivros(List.of(1L, 2L)))
+                .thenReturn(List.of(new ParDeIds(1L, 5L), new ParDeIds(2L, 5L)));
+
+        LivroPaginaResponse response = livroService.listarLivros(null, 20);
 
         assertNotNull(response, "O retorno não pode ser nulo!");
-        assertEquals(2, response.size(), "Deve retornar uma lista com dois livros!");
+        assertEquals(2, response.livros().size(), "Deve retornar uma lista com dois livros!");
+        assertNull(response.proximoCursor(), "Não deve retornar cursor quando não houver próxima página!");
 
-        LivroResponse primeiroLivro = response.get(0);
+        LivroResponse primeiroLivro = response.livros().get(0);
         assertEquals("Capitães da Areia", primeiroLivro.nome(), "Deve retornar Capitães da Areia!");
         assertEquals(1, primeiroLivro.autoresIds().size(), "Deve retornar a lista de ids de autores com tamanho 1!");
 
-        LivroResponse segundoLivro = response.get(1);
+        LivroResponse segundoLivro = response.livros().get(1);
         assertEquals("Gabriela, Cravo e Canela", segundoLivro.nome(), "Deve retornar Gabriela, Cravo e Canela!");
         assertEquals(1, segundoLivro.autoresIds().size(), "Deve retornar a  lista de ids de autores com tamanho 1!");
 
-        verify(livroRepository, times(1)).findAll();
+        verify(livroRepository, times(1)).findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class));
+        verify(livroRepository, times(1)).buscarAutoresIdsPorLivros(List.of(1L, 2L));
+        verifyNoMoreInteractions(livroRepository);
+    }
+
+    @Test
+    @DisplayName("Deve retornar cursor para a próxima página e continuar a partir dele!")
+    void deveListarLivrosPorCursor() {
+
+        Livro livro1 = new Livro(
+                "Capitães da Areia",
+                "9788535914849",
+                LocalDate.parse("1937-01-01")
+        );
+        ReflectionTestUtils.setField(livro1, "id", 1L);
+
+        Livro livro2 = new Livro(
+                "Gabriela, Cravo e Canela",
+                "9788535914856",
+                LocalDate.parse("1958-01-01")
+        );
+        ReflectionTestUtils.setField(livro2, "id", 2L);
+
+        when(livroRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(livro1, livro2));
+
+        LivroPaginaResponse primeiraPagina = livroService.listarLivros(null, 1);
+
+        assertEquals(1, primeiraPagina.livros().size(), "Deve retornar apenas um livro na página!");
+        assertNotNull(primeiraPagina.proximoCursor(), "Deve retornar cursor para a próxima página!");
+
+        when(livroRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any(Limit.class)))
+                .thenReturn(List.of(livro2));
+
+        LivroPaginaResponse segundaPagina = livroService.listarLivros(primeiraPagina.proximoCursor(), 1);
+
+        assertEquals("Gabriela, Cravo e Canela", segundaPagina.livros().get(0).nome(), "Deve retornar Gabriela, Cravo e Canela!");
+        assertNull(segundaPagina.proximoCursor(), "Não deve retornar cursor na última página!");
+    }
+
+    @Test
+    @DisplayName("Deve montar a página JSON a partir dos fragmentos já serializados!")
+    void deveListarLivrosJsonAPartirDosFragmentos() throws Exception {
+
+        Livro livro1 = new Livro(
+                "Capitães da Areia",
+                "9788535914849",
+                LocalDate.parse("1937-01-01")
+        );
+        ReflectionTestUtils.setField(livro1, "id", 1L);
+
+        Livro livro2 = new Livro(
+                "Gabriela, Cravo e Canela",
+                "9788535914856",
+                LocalDate.parse("1958-01-01")
+        );
+        ReflectionTestUtils.setField(livro2, "id", 2L);
+
+        when(livroRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(livro1, livro2));
+
+        when(livroRepository.buscarAutoresIdsPorLivros(List.of(1L)))
+                .thenReturn(List.of(new ParDeIds(1L, 5L)));
+
+        LivroPaginaResponse esperado = livroService.listarLivros(null, 1);
+
+        byte[] primeiraChamada = livroService.listarLivrosJson(null, 1);
+        byte[] segundaChamada = livroService.listarLivrosJson(null, 1);
+
+        assertEquals(esperado, objectMapper.readValue(primeiraChamada, LivroPaginaResponse.class),
+                "Deve produzir o mesmo JSON da listagem por records!");
+        assertArrayEquals(primeiraChamada, segundaChamada);
+
+        verify(livroRepository, times(2)).buscarAutoresIdsPorLivros(List.of(1L));
+
+        livroService.listarLivrosJson(null, 1);
+        fragmentosJsonLivros.livroAlterado(new LivroAlteradoEvento(1L, "Capitães da Areia", Set.of(5L)));
+        livroService.listarLivrosJson(null, 1);
+
+        verify(livroRepository, times(3)).buscarAutoresIdsPorLivros(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Deve buscar livros pelo título na ordem de relevância do índice, paginando!")
+    void deveBuscarLivrosPorTituloNaOrdemDoIndice() {
+
+        Livro livro1 = new Livro(
+                "Capitães da Areia",
+                "9788535914849",
+                LocalDate.parse("1937-01-01")
+        );
+        ReflectionTestUtils.setField(livro1, "id", 1L);
+
+        Livro livro2 = new Livro(
+                "Areia Branca",
+                "9788535914856",
+                LocalDate.parse("1958-01-01")
+        );
+        ReflectionTestUtils.setField(livro2, "id", 2L);
+
+        when(indiceTitulosLivros.buscar("areia")).thenReturn(List.of(2L, 1L, 3L));
+        when(livroRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(livro1, livro2));
+        when(livroRepository.buscarAutoresIdsPorLivros(List.of(2L, 1L))).thenReturn(List.of());
+
+        LivroPaginaResponse primeiraPagina = livroService.buscarLivros("areia", null, 2);
+
+        assertEquals(List.of("Areia Branca", "Capitães da Areia"),
+                primeiraPagina.livros().stream().map(LivroResponse::nome).toList(),
+                "Deve manter a ordem de relevância do índice!");
+        assertNotNull(primeiraPagina.proximoCursor(), "Deve retornar cursor para a próxima página!");
+
+        when(livroRepository.findAllById(List.of(3L))).thenReturn(List.of());
+
+        LivroPaginaResponse segundaPagina = livroService.buscarLivros("areia", primeiraPagina.proximoCursor(), 2);
+
+        assertTrue(segundaPagina.livros().isEmpty(), "Deve ignorar livro removido após a busca no índice!");
+        assertNull(segundaPagina.proximoCursor(), "Não deve retornar cursor na última página!");
+    }
+
+    @Test
+    @DisplayName("Não deve buscar livros sem termo de busca!")
+    void naoDeveBuscarLivrosSemTermo() {
+
+        assertThrows(ValidacaoException.class, () -> livroService.buscarLivros(" ", null, 20));
+
+        verifyNoInteractions(indiceTitulosLivros);
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro quando o cursor de paginação for inválido!")
+    void naoDeveListarLivrosComCursorInvalido() {
+
+        ValidacaoException exception = assertThrows(
+                ValidacaoException.class,
+                () -> livroService.listarLivros("cursor-invalido", 20)
+        );
+
+        assertEquals("Cursor de paginação inválido!", exception.getMessage(), "Deve retornar que o cursor é inválido!");
+
+        verify(livroRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve exportar os livros em NDJSON, um por linha!")
+    void deveExportarLivrosEmNdjson() throws Exception {
+
+        Livro livro1 = new Livro(
+                "Capitães da Areia",
+                "9788535914849",
+                LocalDate.parse("1937-01-01")
+        );
+
+        Livro livro2 = new Livro(
+                "Gabriela, Cravo e Canela",
+                "9788535914856",
+                LocalDate.parse("1958-01-01")
+        );
+
+        ReflectionTestUtils.setField(livro1, "id", 1L);
+        ReflectionTestUtils.setField(livro2, "id", 2L);
+
+        when(livroRepository.buscarTodosEmFluxo())
+                .thenReturn(Stream.of(livro1, livro2));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        livroService.exportarLivros(saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(2, linhas.length, "Deve exportar uma linha por livro!");
+        assertEquals("Capitães da Areia", objectMapper.readValue(linhas[0], LivroResponse.class).nome(), "Deve exportar Capitães da Areia!");
+        assertEquals("Gabriela, Cravo e Canela", objectMapper.readValue(linhas[1], LivroResponse.class).nome(), "Deve exportar Gabriela, Cravo e Canela!");
     }
 
     @Test
@@ -238,27 +516,26 @@ public class LivroServiceTest {
                 LocalDate.parse("1937-01-01")
         );
 
-        Autor autor = new Autor(
-                "Jorge Amado",
-                LocalDate.parse("1912-08-10"),
-                "12345678900"
-        );
-
         when(livroRepository.findById(1L))
                 .thenReturn(Optional.of(livro));
 
-        when(autorRepository.findById(2L))
-                .thenReturn(Optional.of(autor));
+        when(autorRepository.existsById(2L))
+                .thenReturn(true);
 
-        when(livroRepository.save(any(Livro.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(livroRepository.existsByIdAndAutores_Id(1L, 2L))
+                .thenReturn(false);
+
+        when(livroRepository.buscarAutoresIds(1L))
+                .thenReturn(List.of(2L, 3L));
 
         LivroResponse response = livroService.adicionarAutorAoLivro(1L, 2L);
 
         assertNotNull(response, "O retorno não pode ser nulo!");
         assertEquals("Capitães da Areia", response.nome(), "Deve retornar Capitães da Areia!");
+        assertEquals(List.of(2L, 3L), response.autoresIds(), "Deve retornar os ids dos autores do livro!");
 
-        verify(livroRepository).save(livro);
+        verify(livroRepository).associarAutor(1L, 2L);
+        verify(livroRepository, never()).save(any());
     }
 
     @Test
@@ -275,7 +552,7 @@ public class LivroServiceTest {
 
         assertEquals("Livro com id 1 não encontrado!", exception.getMessage(), "Deve retornar livro com id 1 não encontrado!");
 
-        verify(livroRepository, never()).save(any());
+        verify(livroRepository, never()).associarAutor(any(), any());
     }
 
     @Test
@@ -291,8 +568,8 @@ public class LivroServiceTest {
         when(livroRepository.findById(1L))
                 .thenReturn(Optional.of(livro));
 
-        when(autorRepository.findById(2L))
-                .thenReturn(Optional.empty());
+        when(autorRepository.existsById(2L))
+                .thenReturn(false);
 
         RuntimeException exception = assertThrows(
                 RuntimeException.class,
@@ -301,72 +578,53 @@ public class LivroServiceTest {
 
         assertEquals("Autor com id 2 não encontrado!", exception.getMessage(), "Deve retornar livro com id 1 não encontrado!");
 
-        verify(livroRepository, never()).save(any());
+        verify(livroRepository, never()).associarAutor(any(), any());
     }
 
     @Test
     @DisplayName("Deve lançar erro quando autor já estiver associado ao livro!")
     void naoDeveAssociarLivroAoAutorQuandoIdDoAutorJaEstiverAssociado() {
 
-        Autor autor = new Autor(
-                "Jorge Amado",
-                LocalDate.parse("1912-08-10"),
-                "12345678900"
-        );
-
         Livro livro = new Livro(
                 "Capitães da Areia",
                 "9788535914849",
                 LocalDate.parse("1937-01-01")
         );
 
-        livro.getAutores().add(autor);
-
         when(livroRepository.findById(1L))
                 .thenReturn(Optional.of(livro));
 
-        when(autorRepository.findById(2L))
-                .thenReturn(Optional.of(autor));
+        when(autorRepository.existsById(2L))
+                .thenReturn(true);
+
+        when(livroRepository.existsByIdAndAutores_Id(1L, 2L))
+                .thenReturn(true);
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ConflitoException exception = assertThrows(
+                ConflitoException.class,
                 () -> livroService.adicionarAutorAoLivro(1L, 2L)
         );
 
         assertEquals("Autor já está associado a este livro!", exception.getMessage(), "Deve retornar que o autor já está associado ao livro!");
 
-        verify(livroRepository, never()).save(any());
+        verify(livroRepository, never()).associarAutor(any(), any());
     }
 
     @Test
     @DisplayName("Deve remover autor do livro com sucesso!")
     void deveRemoverAutorDoLivroComSucesso() {
 
-        Autor autor1 = new Autor(
-                "Jorge Amado",
-                LocalDate.parse("1912-08-10"),
-                "12345678900"
-        );
-
-        Autor autor2 = new Autor(
-                "Machado de Assis",
-                LocalDate.parse("1839-06-21"),
-                "12345678902"
-        );
-
         Livro livro = new Livro(
                 "Capitães da Areia",
                 "9788535914849",
                 LocalDate.parse("1937-01-01")
         );
 
-        livro.getAutores().add(autor1);
-        livro.getAutores().add(autor2);
-
-        when(livroRepository.findById(1L)).thenReturn(Optional.of(livro));
-        when(autorRepository.findById(2L)).thenReturn(Optional.of(autor2));
-        when(livroRepository.save(any(Livro.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(livroRepository.buscarParaAlterarAutores(1L)).thenReturn(Optional.of(livro));
+        when(autorRepository.existsById(2L)).thenReturn(true);
+        when(livroRepository.existsByIdAndAutores_Id(1L, 2L)).thenReturn(true);
+        when(livroRepository.contarAutores(1L)).thenReturn(2L);
+        when(livroRepository.buscarAutoresIds(1L)).thenReturn(List.of(3L));
 
         LivroResponse response = livroService.removerAutorDoLivro(1L, 2L);
 
@@ -374,14 +632,15 @@ public class LivroServiceTest {
         assertEquals(1, response.autoresIds().size(), "Deve retornar uma lista com apenas 1 id de autor!");
         assertFalse(response.autoresIds().contains(2L), "Deve retornar o id de autor numero 2!");
 
-        verify(livroRepository).save(livro);
+        verify(livroRepository).desassociarAutor(1L, 2L);
+        verify(livroRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando livro não existir!")
     void naoDeveRemoverAutorDoLivroQuandoLivroNaoExiste() {
 
-        when(livroRepository.findById(1L))
+        when(livroRepository.buscarParaAlterarAutores(1L))
                 .thenReturn(Optional.empty());
 
         RuntimeException exception = assertThrows(
@@ -391,7 +650,7 @@ public class LivroServiceTest {
 
         assertEquals("Livro com id 1 não encontrado!",exception.getMessage(), "Deve retornar livro com id 1 não encontrado!");
 
-        verify(livroRepository, never()).save(any());
+        verify(livroRepository, never()).desassociarAutor(any(), any());
     }
 
     @Test
@@ -404,11 +663,11 @@ public class LivroServiceTest {
                 LocalDate.parse("1937-01-01")
         );
 
-        when(livroRepository.findById(1L))
+        when(livroRepository.buscarParaAlterarAutores(1L))
                 .thenReturn(Optional.of(livro));
 
-        when(autorRepository.findById(2L))
-                .thenReturn(Optional.empty());
+        when(autorRepository.existsById(2L))
+                .thenReturn(false);
 
         RuntimeException exception = assertThrows(
                 RuntimeException.class,
@@ -417,75 +676,56 @@ public class LivroServiceTest {
 
         assertEquals("Autor com id 2 não encontrado!", exception.getMessage(), "Deve retornar autor com id 2 não encontrado!");
 
-        verify(livroRepository, never()).save(any());
+        verify(livroRepository, never()).desassociarAutor(any(), any());
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando autor não estiver associado ao livro!")
     void naoDeveRemoverAutorDoLivroQuandoAutorNaoAssociado() {
 
-        Autor autorAssociado = new Autor(
-                "Jorge Amado",
-                LocalDate.parse("1912-08-10"),
-                "12345678900"
-        );
-
-        Autor autorNaoAssociado = new Autor(
-                "Machado de Assis",
-                LocalDate.parse("1839-06-21"),
-                "12345678902"
-        );
-
         Livro livro = new Livro(
                 "Capitães da Areia",
                 "9788535914849",
                 LocalDate.parse("1937-01-01")
         );
 
-        livro.getAutores().add(autorAssociado);
+        when(livroRepository.buscarParaAlterarAutores(1L)).thenReturn(Optional.of(livro));
+        when(autorRepository.existsById(2L)).thenReturn(true);
+        when(livroRepository.existsByIdAndAutores_Id(1L, 2L)).thenReturn(false);
 
-        when(livroRepository.findById(1L)).thenReturn(Optional.of(livro));
-        when(autorRepository.findById(2L)).thenReturn(Optional.of(autorNaoAssociado));
-
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ValidacaoException exception = assertThrows(
+                ValidacaoException.class,
                 () -> livroService.removerAutorDoLivro(1L, 2L)
         );
 
         assertEquals("Autor não está associado a este livro!",exception.getMessage(), "Deve retornar que o autor não está associado ao livro!");
 
-        verify(livroRepository, never()).save(any());
+        verify(livroRepository, never()).desassociarAutor(any(), any());
     }
 
     @Test
     @DisplayName("Não deve permitir remover o último autor do livro!")
     void naoDeveRemoverUltimoAutorDoLivro() {
 
-        Autor autor = new Autor(
-                "Jorge Amado",
-                LocalDate.parse("1912-08-10"),
-                "12345678900"
-        );
-
         Livro livro = new Livro(
                 "Capitães da Areia",
                 "9788535914849",
                 LocalDate.parse("1937-01-01")
         );
 
-        livro.getAutores().add(autor);
+        when(livroRepository.buscarParaAlterarAutores(1L)).thenReturn(Optional.of(livro));
+        when(autorRepository.existsById(2L)).thenReturn(true);
+        when(livroRepository.existsByIdAndAutores_Id(1L, 2L)).thenReturn(true);
+        when(livroRepository.contarAutores(1L)).thenReturn(1L);
 
-        when(livroRepository.findById(1L)).thenReturn(Optional.of(livro));
-        when(autorRepository.findById(2L)).thenReturn(Optional.of(autor));
-
-        IllegalStateException exception = assertThrows(
-                IllegalStateException.class,
+        ConflitoException exception = assertThrows(
+                ConflitoException.class,
                 () -> livroService.removerAutorDoLivro(1L, 2L)
         );
 
         assertEquals("Um livro não pode ficar sem autor, favor excluir o livro!", exception.getMessage(), "Deve retornar que o livro não pode ficar sem autor!");
 
-        verify(livroRepository, never()).save(any());
+        verify(livroRepository, never()).desassociarAutor(any(), any());
     }
 
     @Test
@@ -535,35 +775,49 @@ public class LivroServiceTest {
     }
 
     @Test
-    @DisplayName("Deve listar os livros de um autor com sucesso!")
-    void deveListarLivrosPorIdDoAutor() {
+    @DisplayName("Deve buscar livro repetido do cache sem acessar o repositório!")
+    void deveBuscarLivroRepetidoDoCache() {
 
-        Long autorId = 1L;
-
-        Autor autor = new Autor(
-                "Jorge Amado",
-                LocalDate.parse("1912-08-10"),
-                "12345678900"
-        );
-
-        Livro livro1 = new Livro(
+        Livro livro = new Livro(
                 "Capitães da Areia",
                 "9788535914849",
                 LocalDate.parse("1937-01-01")
         );
 
-        Livro livro2 = new Livro(
-                "Dona Flor e Seus Dois Maridos",
-                "9788535902778",
-                LocalDate.parse("1966-01-01")
-        );
+        when(livroRepository.findById(1L))
+                .thenReturn(Optional.of(livro));
+
+        LivroResponse primeira = livroService.buscarLivroPorId(1L);
+        LivroResponse segunda = livroService.buscarLivroPorId(1L);
+
+        assertEquals(primeira, segunda, "Deve retornar o mesmo livro!");
+        verify(livroRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve guardar em cache o livro não encontrado!")
+    void deveGuardarEmCacheLivroNaoEncontrado() {
 
-        // Simula relacionamento
-        autor.getLivros().add(livro1);
-        autor.getLivros().add(livro2);
+        when(livroRepository.findById(1L))
+                .thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> livroService.buscarLivroPorId(1L));
+        assertThrows(RuntimeException.class, () -> livroService.buscarLivroPorId(1L));
+
+        verify(livroRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve listar os livros de um autor com sucesso!")
+    void deveListarLivrosPorIdDoAutor() {
+
+        Long autorId = 1L;
 
-        when(autorRepository.findById(autorId))
-                .thenReturn(Optional.of(autor));
+        when(autorRepository.existsById(autorId)).thenReturn(true);
+        when(autorRepository.buscarLivrosPorAutor(autorId)).thenReturn(List.of(
+                new LivroDoAutor(1L, "Capitães da Areia", "9788535914849", LocalDate.parse("1937-01-01")),
+                new LivroDoAutor(2L, "Dona Flor e Seus Dois Maridos", "9788535902778", LocalDate.parse("1966-01-01"))
+        ));
 
         List<LivroPorAutorResponse> response = livroService.listarLivrosPorIdAutor(autorId);
 
@@ -574,7 +828,7 @@ public class LivroServiceTest {
         assertEquals("Capitães da Areia", response.get(0).nome(), "Deve retornar Capitães da Areia!");
         assertEquals("Dona Flor e Seus Dois Maridos", response.get(1).nome(), "Dona Flor e Seus Dois Maridos!");
 
-        verify(autorRepository).findById(autorId);
+        verify(autorRepository, never()).findById(autorId);
     }
 
     @Test
@@ -584,8 +838,8 @@ public class LivroServiceTest {
         // Arrange
         Long autorId = 1L;
 
-        when(autorRepository.findById(autorId))
-                .thenReturn(Optional.empty());
+        when(autorRepository.existsById(autorId))
+                .thenReturn(false);
 
         // Act + Assert
         RuntimeException exception = assertThrows(
@@ -595,7 +849,7 @@ public class LivroServiceTest {
 
         assertEquals("Autor com id 1 não encontrado!", exception.getMessage(), "Deve retornar autor com id 1 não encontrado!");
 
-        verify(autorRepository).findById(autorId);
+        verify(autorRepository, never()).buscarLivrosPorAutor(autorId);
     }
 
     @Test
@@ -624,19 +878,14 @@ public class LivroServiceTest {
         livro.getAutores().add(autor1);
         livro.getAutores().add(autor2);
 
-        autor1.getLivros().add(livro);
-        autor2.getLivros().add(livro);
-
         when(livroRepository.findById(1L))
                 .thenReturn(Optional.of(livro));
 
         livroService.deletarLivro(1L);
 
-        assertFalse(autor1.getLivros().contains(livro),"O livro deve ser removido da lista do autor 1!");
-        assertFalse(autor2.getLivros().contains(livro),"O livro deve ser removido da lista do autor 2!");
-
         verify(livroRepository).findById(1L);
         verify(livroRepository).delete(livro);
+        verify(eventPublisher).publishEvent(any(LivroRemovidoEvento.class));
     }
 
     @Test
@@ -660,17 +909,13 @@ public class LivroServiceTest {
     @DisplayName("Deve atualizar nome do livro com sucesso!")
     void deveAtualizarNomeDoLivro() {
 
-        Livro livro = new Livro(
-                "Laços",
-                "9788535914849",
-                LocalDate.parse("1937-01-01")
-        );
+        Livro livro = new Livro("Laços", "9788535914849", LocalDate.parse("1937-01-01"));
 
         when(livroRepository.findById(1L))
                 .thenReturn(Optional.of(livro));
 
-        when(livroRepository.save(any(Livro.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(livroRepository.buscarAutoresIds(1L))
+                .thenReturn(List.of(2L));
 
         LivroUpdateRequest request = new LivroUpdateRequest(
                 "Laços de Família",
@@ -682,23 +927,17 @@ public class LivroServiceTest {
         LivroResponse response = livroService.atualizarLivro(1L, request);
 
         assertEquals("Laços de Família", response.nome(), "Deve retornar Laços de Família!");
+        assertEquals("Laços de Família", livro.getNome(), "Deve alterar o nome no livro carregado!");
+        assertEquals("9788535914849", response.isbd(), "Deve manter o ISBN do livro!");
+        assertEquals(List.of(2L), response.autoresIds(), "Deve retornar os ids dos autores sem carregar a coleção!");
 
-        verify(livroRepository).save(livro);
+        verify(livroRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("Não deve permitir atualizar livro sem autor!")
     void naoDeveAtualizarLivroSemAutor() {
 
-        Livro livro = new Livro(
-                "Laços de Família",
-                "9788535914849",
-                LocalDate.parse("1937-01-01")
-        );
-
-        when(livroRepository.findById(1L))
-                .thenReturn(Optional.of(livro));
-
         LivroUpdateRequest request = new LivroUpdateRequest(
                 null,
                 null,
@@ -706,14 +945,14 @@ public class LivroServiceTest {
                 List.of()
         );
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ValidacaoException exception = assertThrows(
+                ValidacaoException.class,
                 () -> livroService.atualizarLivro(1L, request)
         );
 
         assertEquals("Livro deve possuir ao menos um autor!", exception.getMessage(),"Deve retornar que o livro deve possuir ao menos 1 autor!");
 
-        verify(livroRepository, never()).save(any());
+        verify(livroRepository, never()).findById(any());
     }
 
 
@@ -4,21 +4,31 @@ import com.db.api_biblioteca.domain.dto.LocatarioRequest;
 import com.db.api_biblioteca.domain.dto.LocatarioResponse;
 import com.db.api_biblioteca.domain.dto.LocatarioUpdateRequest;
 import com.db.api_biblioteca.domain.entity.Locatario;
+import com.db.api_biblioteca.domain.exception.ConflitoException;
+import com.db.api_biblioteca.domain.exception.ValidacaoException;
 import com.db.api_biblioteca.domain.repository.AluguelRepository;
 import com.db.api_biblioteca.domain.repository.LocatarioRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,9 +40,39 @@ public class LocatarioServiceTest {
     @Mock
     private AluguelRepository aluguelRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ConsultaParcial consultaParcial;
+
     @InjectMocks
     private LocatarioService locatarioService;
 
+    @Test
+    @DisplayName("Deve buscar locatário parcial por id carregando aluguéis apenas quando pedidos!")
+    void deveBuscarLocatarioParcialPorId() {
+
+        Set<String> semAlugueis = CamposParciais.interpretar("nome", LocatarioService.CAMPOS);
+        Set<String> comAlugueis = CamposParciais.interpretar("nome,alugueisIds", LocatarioService.CAMPOS);
+
+        when(consultaParcial.buscarPorId(eq(Locatario.class), any(), any(), eq(1L)))
+                .thenAnswer(invocacao -> {
+                    Map<String, Object> locatario = new LinkedHashMap<>();
+                    locatario.put("id", 1L);
+                    locatario.put("nome", "Ana Paula Souza");
+                    return Optional.of(locatario);
+                });
+        when(locatarioRepository.buscarAlugueisIdsPorLocatario(1L)).thenReturn(List.of(3L, 4L));
+
+        assertEquals(Map.of("id", 1L, "nome", "Ana Paula Souza"),
+                locatarioService.buscarLocatarioParcialPorId(1L, semAlugueis));
+        assertEquals(Map.of("id", 1L, "nome", "Ana Paula Souza", "alugueisIds", List.of(3L, 4L)),
+                locatarioService.buscarLocatarioParcialPorId(1L, comAlugueis));
+
+        verify(locatarioRepository, times(1)).buscarAlugueisIdsPorLocatario(1L);
+    }
+
     @Test
     @DisplayName("Deve salvar e retornar o locatário com sucesso!")
     void deveSalvarLocatarioComSucesso() {
@@ -80,8 +120,8 @@ public class LocatarioServiceTest {
         when(locatarioRepository.existsByCpf(request.cpf()))
                 .thenReturn(true);
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ConflitoException exception = assertThrows(
+                ConflitoException.class,
                 () -> locatarioService.salvarLocatario(request)
         );
 
@@ -106,8 +146,8 @@ public class LocatarioServiceTest {
         when(locatarioRepository.existsByEmail(request.email()))
                 .thenReturn(true);
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ConflitoException exception = assertThrows(
+                ConflitoException.class,
                 () -> locatarioService.salvarLocatario(request)
         );
 
@@ -129,8 +169,8 @@ public class LocatarioServiceTest {
                 "12345678901"
         );
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ValidacaoException exception = assertThrows(
+                ValidacaoException.class,
                 () -> locatarioService.salvarLocatario(request)
         );
 
@@ -139,7 +179,7 @@ public class LocatarioServiceTest {
     }
 
     @Test
-    @DisplayName("Não deve salvar o locatário e deve retornar erro de sexo inválido!")
+    @DisplayName("Não deve salvar o locatário e deve rejeitar sexo inválido na validação da requisição!")
     void naoDeveSalvarAutorComSexoNoFormatoInvalido() {
 
         LocatarioRequest request = new LocatarioRequest(
@@ -151,13 +191,14 @@ public class LocatarioServiceTest {
                 "12345678901"
         );
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
-                () -> locatarioService.salvarLocatario(request)
-        );
+        Set<String> mensagens = Validation.buildDefaultValidatorFactory()
+                .getValidator()
+                .validateProperty(request, "sexo")
+                .stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
 
-        assertEquals("Sexo inválido. Valores permitidos: Masculino, Feminino ou Outro!", exception.getMessage(), "Deve retornar a mensagem de Sexo inválido!");
-        verify(locatarioRepository, never()).save(any());
+        assertEquals(Set.of("Sexo inválido. Valores permitidos: Masculino, Feminino ou Outro!"), mensagens, "Deve retornar a mensagem de Sexo inválido!");
     }
 
     @Test
@@ -207,15 +248,6 @@ public class LocatarioServiceTest {
 
         Long id = 1L;
 
-        Locatario locatario = new Locatario(
-                "Ana",
-                "993569926",
-                "ana@gmail.com",
-                LocalDate.parse("1990-05-05"),
-                "12345678900"
-
-        );
-
         LocatarioUpdateRequest updateRequest = new LocatarioUpdateRequest(
                 "Ana Paula",
                 null,
@@ -225,19 +257,23 @@ public class LocatarioServiceTest {
                 null
         );
 
+        Locatario locatario = new Locatario("Ana", "993569926", "ana@gmail.com", LocalDate.parse("1990-05-05"), "12345678900");
+
         when(locatarioRepository.findById(id))
                 .thenReturn(Optional.of(locatario));
 
-        when(locatarioRepository.save(any(Locatario.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(locatarioRepository.buscarAlugueisIdsPorLocatario(id))
+                .thenReturn(List.of());
 
         LocatarioResponse response = locatarioService.atualizarLocatario(id, updateRequest);
 
         assertNotNull(response, "O retorno não pode ser nulo!");
         assertEquals("Ana Paula", response.nome(), "Deve retornar Ana Paula!");
+        assertEquals("Ana Paula", locatario.getNome(), "Deve alterar o nome no locatário carregado!");
+        assertEquals("ana@gmail.com", response.email(), "Deve manter o email do locatário!");
+        assertEquals(List.of(), response.alugueisIds(), "Locatário sem aluguéis não deve ter ids!");
 
-        verify(locatarioRepository).findById(id);
-        verify(locatarioRepository).save(any(Locatario.class));
+        verify(locatarioRepository, never()).save(any());
 
     }
 
@@ -266,8 +302,7 @@ public class LocatarioServiceTest {
 
         assertEquals("Locatário com Id 1 não encontrado!",exception.getMessage(), "Deve retornar locatário com id 1 não encontrado!");
 
-        verify(locatarioRepository).findById(id);
-        verify(locatarioRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -276,15 +311,6 @@ public class LocatarioServiceTest {
 
         Long id = 1L;
 
-        Locatario locatarioExistente = new Locatario(
-                "Ana",
-                "993569926",
-                "ana@gmail.com",
-                LocalDate.parse("1990-05-05"),
-                "12345678900"
-
-        );
-
         LocatarioUpdateRequest updateRequest = new LocatarioUpdateRequest(
                 null,
                 null,
@@ -294,21 +320,17 @@ public class LocatarioServiceTest {
                 "12345678900"
         );
 
-        when(locatarioRepository.findById(id))
-                .thenReturn(Optional.of(locatarioExistente));
-
         when(locatarioRepository.existsByCpf("12345678900"))
                 .thenReturn(true);
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ConflitoException exception = assertThrows(
+                ConflitoException.class,
                 () -> locatarioService.atualizarLocatario(id, updateRequest)
         );
 
         assertEquals("CPF já cadastrado!", exception.getMessage(), "Deve retornar a mensagem de cpf já cadastrado!");
 
-        verify(locatarioRepository).findById(id);
-        verify(locatarioRepository, never()).save(any());
+        verify(locatarioRepository, never()).findById(any());
     }
 
     @Test
@@ -317,15 +339,6 @@ public class LocatarioServiceTest {
 
         Long id = 1L;
 
-        Locatario locatarioExistente = new Locatario(
-                "Ana",
-                "993569926",
-                "ana@gmail.com",
-                LocalDate.parse("1990-05-05"),
-                "12345678900"
-
-        );
-
         LocatarioUpdateRequest updateRequest = new LocatarioUpdateRequest(
                 null,
                 null,
@@ -335,21 +348,17 @@ public class LocatarioServiceTest {
                 null
         );
 
-        when(locatarioRepository.findById(id))
-                .thenReturn(Optional.of(locatarioExistente));
-
         when(locatarioRepository.existsByEmail("ana@gmail.com"))
                 .thenReturn(true);
 
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        ConflitoException exception = assertThrows(
+                ConflitoException.class,
                 () -> locatarioService.atualizarLocatario(id, updateRequest)
         );
 
         assertEquals("Email já cadastrado!", exception.getMessage(), "Deve retornar a mensagem de email já cadastrado!");
 
-        verify(locatarioRepository).findById(id);
-        verify(locatarioRepository, never()).save(any());
+        verify(locatarioRepository, never()).findById(any());
     }
 
     @Test
@@ -415,8 +424,8 @@ public class LocatarioServiceTest {
         when(aluguelRepository.existsByLocatario_Id(1L))
                 .thenReturn(true);
 
-        IllegalStateException exception = assertThrows(
-                IllegalStateException.class,
+        ConflitoException exception = assertThrows(
+                ConflitoException.class,
                 () -> locatarioService.deletarLocatario(1L)
         );
 
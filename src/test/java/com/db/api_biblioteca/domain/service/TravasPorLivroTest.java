@@ -0,0 +1,67 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.exception.LivroIndisponivelException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TravasPorLivroTest {
+
+    @AfterEach
+    void limparTransacao() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            concluirTransacao();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve travar livros distintos sem que um aluguel aguarde o outro!")
+    void deveTravarLivrosDistintosSemEspera() {
+
+        TravasPorLivro travas = new TravasPorLivro();
+
+        TransactionSynchronizationManager.initSynchronization();
+        travas.travarAteFimDaTransacao(List.of(1L));
+
+        CompletableFuture<Void> outroAluguel = CompletableFuture.runAsync(() ->
+                travas.travarAteFimDaTransacao(List.of(1025L)));
+
+        assertDoesNotThrow(() -> outroAluguel.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve recusar na hora o aluguel de um livro travado por outra transação!")
+    void deveRecusarLivroTravadoSemEsperar() {
+
+        TravasPorLivro travas = new TravasPorLivro();
+
+        TransactionSynchronizationManager.initSynchronization();
+        travas.travarAteFimDaTransacao(List.of(1L));
+
+        CompletableFuture<Void> outroAluguel = CompletableFuture.runAsync(() ->
+                travas.travarAteFimDaTransacao(List.of(2L, 1L)));
+
+        Exception exception = assertThrows(Exception.class, () -> outroAluguel.get(1, TimeUnit.SECONDS));
+
+        assertInstanceOf(LivroIndisponivelException.class, exception.getCause());
+
+        concluirTransacao();
+
+        assertDoesNotThrow(() -> travas.travarAteFimDaTransacao(List.of(1L, 2L)),
+                "As travas devem ser liberadas ao fim da transação e após a recusa!");
+    }
+
+    private static void concluirTransacao() {
+        List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        sincronizacoes.forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
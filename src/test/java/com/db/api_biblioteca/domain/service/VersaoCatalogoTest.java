@@ -0,0 +1,51 @@
+package com.db.api_biblioteca.domain.service;
+
+import com.db.api_biblioteca.domain.event.AluguelAlteradoEvento;
+import com.db.api_biblioteca.domain.event.AutorRemovidoEvento;
+import com.db.api_biblioteca.domain.event.LivroAlteradoEvento;
+import com.db.api_biblioteca.domain.event.LocatarioAlteradoEvento;
+import com.db.api_biblioteca.domain.service.VersaoCatalogo.Agregado;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VersaoCatalogoTest {
+
+    private final VersaoCatalogo versaoCatalogo = new VersaoCatalogo();
+
+    @Test
+    @DisplayName("Deve alterar a ETag apenas quando um dos agregados dela for alterado!")
+    void deveAlterarEtagApenasComAgregadosDela() {
+
+        String livros = versaoCatalogo.etag(Agregado.LIVRO);
+        String autores = versaoCatalogo.etag(Agregado.AUTOR, Agregado.LIVRO);
+
+        versaoCatalogo.locatarioAlterado(new LocatarioAlteradoEvento(1L));
+        versaoCatalogo.aluguelAlterado(new AluguelAlteradoEvento(1L, Set.of(1L)));
+
+        assertEquals(livros, versaoCatalogo.etag(Agregado.LIVRO));
+        assertEquals(autores, versaoCatalogo.etag(Agregado.AUTOR, Agregado.LIVRO));
+
+        versaoCatalogo.autorRemovido(new AutorRemovidoEvento(1L));
+
+        assertEquals(livros, versaoCatalogo.etag(Agregado.LIVRO));
+        assertNotEquals(autores, versaoCatalogo.etag(Agregado.AUTOR, Agregado.LIVRO));
+
+        versaoCatalogo.livroAlterado(new LivroAlteradoEvento(1L, "Mar Morto", Set.of(1L)));
+
+        assertNotEquals(livros, versaoCatalogo.etag(Agregado.LIVRO));
+    }
+
+    @Test
+    @DisplayName("Deve gerar ETags fortes distintas a cada inicialização!")
+    void deveGerarEtagsDistintasPorInicializacao() {
+
+        String etag = versaoCatalogo.etag(Agregado.LIVRO);
+
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""), "A ETag deve ser forte e entre aspas!");
+        assertNotEquals(etag, new VersaoCatalogo().etag(Agregado.LIVRO));
+    }
+}
@@ -0,0 +1,51 @@
+package com.db.api_biblioteca.domain.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataValidatorTest {
+
+    @Test
+    @DisplayName("Deve converter datas válidas no formato aaaa-mm-dd!")
+    void deveConverterDatasValidas() {
+
+        assertEquals(LocalDate.of(1912, 8, 10), DataValidator.converterData("1912-08-10"));
+        assertEquals(LocalDate.of(2024, 2, 29), DataValidator.converterData("2024-02-29"));
+        assertEquals(LocalDate.of(2000, 2, 29), DataValidator.converterData("2000-02-29"));
+        assertEquals(LocalDate.of(1, 12, 31), DataValidator.converterData("0001-12-31"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar datas inválidas sem lançar exceção!")
+    void deveRecusarDatasInvalidas() {
+
+        assertNull(DataValidator.converterData(null));
+        assertNull(DataValidator.converterData(""));
+        assertNull(DataValidator.converterData("10/08/1912"));
+        assertNull(DataValidator.converterData("1912-8-10"));
+        assertNull(DataValidator.converterData("1912-08-10T00:00"));
+        assertNull(DataValidator.converterData("19a2-08-10"));
+        assertNull(DataValidator.converterData("1912-13-01"));
+        assertNull(DataValidator.converterData("1912-00-01"));
+        assertNull(DataValidator.converterData("1912-04-31"));
+        assertNull(DataValidator.converterData("1900-02-29"));
+        assertNull(DataValidator.converterData("2023-02-29"));
+        assertNull(DataValidator.converterData("1912-08-00"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar data de nascimento no futuro!")
+    void deveRecusarNascimentoNoFuturo() {
+
+        LocalDate amanha = LocalDate.now().plusDays(1);
+
+        assertNull(DataValidator.converterDataNascimento(amanha.toString()));
+        assertEquals(LocalDate.now(), DataValidator.converterDataNascimento(LocalDate.now().toString()));
+        assertFalse(DataValidator.dataNascimentoValida(amanha.toString()));
+        assertTrue(DataValidator.dataDePublicacaoValida(amanha.toString()));
+    }
+}
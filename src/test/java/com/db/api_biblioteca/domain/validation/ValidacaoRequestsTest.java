@@ -0,0 +1,74 @@
+package com.db.api_biblioteca.domain.validation;
+
+import com.db.api_biblioteca.domain.dto.AutorRequest;
+import com.db.api_biblioteca.domain.dto.AutorUpdateRequest;
+import com.db.api_biblioteca.domain.dto.LivroUpdateRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidacaoRequestsTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    @DisplayName("Deve validar os dígitos verificadores do CPF!")
+    void deveValidarDigitosVerificadoresDoCpf() {
+
+        assertTrue(CpfValidoValidator.cpfValido("52998224725"));
+        assertTrue(CpfValidoValidator.cpfValido("11144477735"));
+        assertTrue(CpfValidoValidator.cpfValido("12345678909"));
+
+        assertFalse(CpfValidoValidator.cpfValido("52998224726"), "Segundo dígito incorreto!");
+        assertFalse(CpfValidoValidator.cpfValido("52998224715"), "Primeiro dígito incorreto!");
+        assertFalse(CpfValidoValidator.cpfValido("11111111111"), "Dígitos repetidos não formam CPF!");
+        assertFalse(CpfValidoValidator.cpfValido("5299822472"));
+        assertFalse(CpfValidoValidator.cpfValido("529.982.247-25"));
+        assertFalse(CpfValidoValidator.cpfValido("5299822472a"));
+    }
+
+    @Test
+    @DisplayName("Deve reunir todas as violações do autor na validação da requisição!")
+    void deveRejeitarAutorInvalido() {
+
+        AutorRequest request = new AutorRequest(
+                "Machado de Assis",
+                "Robô",
+                LocalDate.now().plusDays(1).toString(),
+                "12345678900"
+        );
+
+        assertEquals(Set.of(
+                "CPF inválido!",
+                "Sexo inválido. Valores permitidos: Masculino, Feminino ou Outro!",
+                "Data de nascimento no formato inválido ou no futuro! Favor fornecer data no formato aaaa-mm-dd!"
+        ), mensagens(request));
+
+        assertEquals(Set.of(), mensagens(new AutorRequest("Machado de Assis", "Masculino", "1839-06-21", "52998224725")));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar campos ausentes nas atualizações parciais!")
+    void deveIgnorarCamposAusentesNasAtualizacoes() {
+
+        assertEquals(Set.of(), mensagens(new AutorUpdateRequest(null, null, null, null)));
+        assertEquals(Set.of("Data de publicação inválida!"),
+                mensagens(new LivroUpdateRequest(null, null, "1937-02-30", null)));
+        assertEquals(Set.of(), mensagens(new LivroUpdateRequest(null, null, LocalDate.now().plusYears(1).toString(), null)));
+    }
+
+    private Set<String> mensagens(Object request) {
+        return validator.validate(request)
+                .stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
+    }
+}